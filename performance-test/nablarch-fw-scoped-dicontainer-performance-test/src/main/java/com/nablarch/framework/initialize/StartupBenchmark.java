@@ -0,0 +1,107 @@
+package com.nablarch.framework.initialize;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.annotation.auto.AnnotationAutoContainerFactory;
+import nablarch.fw.dicontainer.annotation.auto.DefaultComponentPredicate;
+import nablarch.fw.dicontainer.annotation.auto.TraversalConfig;
+import nablarch.fw.dicontainer.component.ComponentId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DIコンテナの起動にかかる時間を測定するベンチマーク。
+ *
+ * <ul>
+ * <li>{@link #generateComponentId()}と{@link #randomUUID()}で、IDの生成コストを比較する。</li>
+ * <li>{@link #createContainer()}で、生成したコンポーネント群を含むDIコンテナの構築時間を測定する。</li>
+ * <li>{@link #createContainerInParallel()}で、ディレクトリトラバーサルを並列に行った場合の構築時間を測定する。</li>
+ * <li>{@link #createContainerWithParallelValidation()}で、コンポーネント定義のバリデーションを並列に行った場合の構築時間を測定する。</li>
+ * </ul>
+ *
+ * DIコンテナを構築するベンチマークの実行前に、GeneratorMain (src/test/java) でコンポーネントを生成しておくこと。
+ */
+@Fork(1)
+public class StartupBenchmark {
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public ComponentId generateComponentId() {
+        return ComponentId.generate();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public UUID randomUUID() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public Container createContainer() {
+        Iterable<TraversalConfig> traversalConfigs = Collections.singleton(new InitializationTraverseConfig());
+        AnnotationContainerBuilder containerBuilder = AnnotationContainerBuilder.createDefault();
+        AnnotationAutoContainerFactory factory = new AnnotationAutoContainerFactory(
+                containerBuilder, traversalConfigs, new DefaultComponentPredicate()
+        );
+        return factory.create();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public Container createContainerInParallel() {
+        Iterable<TraversalConfig> traversalConfigs = Collections.singleton(new InitializationTraverseConfig());
+        AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .parallel(true)
+                .build();
+        return factory.create();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 10)
+    public Container createContainerWithParallelValidation() {
+        Iterable<TraversalConfig> traversalConfigs = Collections.singleton(new InitializationTraverseConfig());
+        AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault().parallelValidation(true))
+                .traversalConfigs(traversalConfigs)
+                .build();
+        return factory.create();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(StartupBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,104 @@
+package com.nablarch.framework.injection;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.Init;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.impl.GeneratedComponentInjectorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * プロトタイプコンポーネントの生成性能を測定するベンチマーク。
+ *
+ * 構成要素を順に呼び出すデフォルトの方法と、
+ * {@link GeneratedComponentInjectorFactory}でコンポーネント定義ごとに生成した処理を使用する方法を比較する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrototypeInjectionBenchmark {
+
+    private Container defaultContainer;
+
+    private Container generatedContainer;
+
+    @Setup
+    public void setUp() {
+        defaultContainer = AnnotationContainerBuilder.createDefault()
+                .register(Dependency.class)
+                .register(Prototype.class)
+                .build();
+        generatedContainer = AnnotationContainerBuilder.createDefault()
+                .componentInjectorFactory(new GeneratedComponentInjectorFactory())
+                .register(Dependency.class)
+                .register(Prototype.class)
+                .build();
+    }
+
+    @Benchmark
+    public Prototype getPrototypeByDefault() {
+        return defaultContainer.getComponent(Prototype.class);
+    }
+
+    @Benchmark
+    public Prototype getPrototypeByGenerated() {
+        return generatedContainer.getComponent(Prototype.class);
+    }
+
+    @Singleton
+    public static class Dependency {
+    }
+
+    public static class Prototype {
+
+        private final Dependency constructorArg;
+
+        @Inject
+        Dependency field;
+
+        Dependency methodArg;
+
+        boolean initialized;
+
+        @Inject
+        public Prototype(final Dependency constructorArg) {
+            this.constructorArg = constructorArg;
+        }
+
+        @Inject
+        public void setMethodArg(final Dependency methodArg) {
+            this.methodArg = methodArg;
+        }
+
+        @Init
+        public void init() {
+            initialized = true;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PrototypeInjectionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,88 @@
+package com.nablarch.framework.lookup;
+
+import com.nablarch.framework.multithread.component.Bbb;
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * シングルトンコンポーネントの取得性能を測定するベンチマーク。
+ *
+ * GCプロファイラ（-prof gc）を有効にして実行し、
+ * {@link Container#getComponent(Class)}の gc.alloc.rate.norm が 0 B/op であることを確認する。
+ * また、{@link Named}で限定されたコンポーネントの取得性能を、
+ * アノテーションを指定する場合と名前を指定する場合で比較する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingletonLookupBenchmark {
+
+    private Container container;
+
+    private final ComponentKey<Bbb> key = new ComponentKey<>(Bbb.class);
+
+    private final Named named = NamedComponent.class.getAnnotation(Named.class);
+
+    @Setup
+    public void setUp() {
+        container = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class)
+                .register(NamedComponent.class)
+                .build();
+    }
+
+    @Benchmark
+    public Bbb getComponentByClass() {
+        return container.getComponent(Bbb.class);
+    }
+
+    @Benchmark
+    public Bbb getComponentByKey() {
+        return container.getComponent(key);
+    }
+
+    @Benchmark
+    public NamedComponent getComponentByQualifier() {
+        return container.getComponent(NamedComponent.class, named);
+    }
+
+    @Benchmark
+    public NamedComponent getComponentByName() {
+        return container.getComponent(NamedComponent.class, "named");
+    }
+
+    @Singleton
+    @Named("named")
+    public static class NamedComponent {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SingletonLookupBenchmark.class.getSimpleName())
+                .addProfiler("gc")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -24,6 +24,7 @@ public class MultiThreadTester {
         final MultiThreadTester me = new MultiThreadTester();
         me.testMultiThread();
         //me.testSingleThread();
+        //me.testScalability();
     }
 
     public void testMultiThread() {
@@ -35,6 +36,23 @@ public class MultiThreadTester {
         settings.execute();
     }
 
+    /**
+     * スレッド数を1から64まで倍々に増やしながら、シングルトンコンポーネントを取得する。
+     * 1スレッドあたりの取得回数は固定とし、スレッド数に対するスループットの伸びを確認する。
+     */
+    public void testScalability() {
+        Container container = createContainer();
+        for (int threads = 1; threads <= 64; threads *= 2) {
+            Runner.cnt.set(0);
+            Settings settings = new Settings();
+            settings.max = 1_000_000 * threads;
+            settings.threads = threads;
+            settings.supplier = () -> new Runner(container, settings.getLoopCntPerThread());
+            LOGGER.logInfo("threads = " + threads);
+            settings.execute();
+        }
+    }
+
     public void testSingleThread() {
         Container container = createContainer();
         Settings settings = new Settings();
@@ -79,8 +97,10 @@ public class MultiThreadTester {
                 pool.shutdownNow();
             }
             long end = System.nanoTime();
-            LOGGER.logInfo("time(ms) = " + ((end - start) / 1000 / 1000));
+            long millis = (end - start) / 1000 / 1000;
+            LOGGER.logInfo("time(ms) = " + millis);
             LOGGER.logInfo("count = " + Runner.cnt.get());
+            LOGGER.logInfo("throughput(ops/ms) = " + (Runner.cnt.get() / Math.max(millis, 1)));
         }
 
     }
@@ -0,0 +1,127 @@
+package com.nablarch.framework.reflect;
+
+import nablarch.fw.dicontainer.component.impl.reflect.ConstructorWrapper;
+import nablarch.fw.dicontainer.component.impl.reflect.FieldWrapper;
+import nablarch.fw.dicontainer.component.impl.reflect.MethodWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * コンストラクタ・フィールド・メソッドのラッパーの性能を測定するベンチマーク。
+ *
+ * {@link java.lang.invoke.MethodHandle}を使用するラッパーと、
+ * 呼び出しのたびにアクセス可否を確認してコアリフレクションを呼び出す方法を比較する。
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionBenchmark {
+
+    private final Target target = new Target();
+
+    private final Object value = new Object();
+
+    private Constructor<Target> constructor;
+
+    private Field field;
+
+    private Method method;
+
+    private ConstructorWrapper constructorWrapper;
+
+    private FieldWrapper fieldWrapper;
+
+    private MethodWrapper methodWrapper;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        constructor = Target.class.getDeclaredConstructor(Object.class);
+        field = Target.class.getDeclaredField("field");
+        method = Target.class.getDeclaredMethod("method", Object.class);
+        constructorWrapper = new ConstructorWrapper(constructor);
+        fieldWrapper = new FieldWrapper(field);
+        methodWrapper = new MethodWrapper(method);
+    }
+
+    @Benchmark
+    public Object newInstanceByReflection() throws ReflectiveOperationException {
+        if (constructor.isAccessible() == false) {
+            constructor.setAccessible(true);
+        }
+        return constructor.newInstance(value);
+    }
+
+    @Benchmark
+    public Object newInstanceByWrapper() {
+        return constructorWrapper.newInstance(value);
+    }
+
+    @Benchmark
+    public void setFieldByReflection() throws ReflectiveOperationException {
+        if (field.isAccessible() == false) {
+            field.setAccessible(true);
+        }
+        field.set(target, value);
+    }
+
+    @Benchmark
+    public void setFieldByWrapper() {
+        fieldWrapper.set(target, value);
+    }
+
+    @Benchmark
+    public Object invokeByReflection() throws ReflectiveOperationException {
+        if (method.isAccessible() == false) {
+            method.setAccessible(true);
+        }
+        return method.invoke(target, value);
+    }
+
+    @Benchmark
+    public Object invokeByWrapper() {
+        return methodWrapper.invoke(target, value);
+    }
+
+    private static class Target {
+
+        private Object field;
+
+        Target() {
+        }
+
+        private Target(final Object field) {
+            this.field = field;
+        }
+
+        private void method(final Object value) {
+            this.field = value;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ReflectionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,61 @@
+package nablarch.fw.dicontainer.processor;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+
+/**
+ * アノテーションに関するユーティリティ。
+ *
+ */
+final class Annotations {
+
+    /** {@code javax.inject.Qualifier} */
+    static final String QUALIFIER = "javax.inject.Qualifier";
+    /** {@code javax.inject.Scope} */
+    static final String SCOPE = "javax.inject.Scope";
+
+    /**
+     * 隠蔽コンストラクタ。
+     */
+    private Annotations() {
+    }
+
+    /**
+     * アノテーションが付与されているかどうかを判定する。
+     *
+     * @param element 要素
+     * @param annotation アノテーションのクラス名
+     * @return 付与されている場合は{@literal true}
+     */
+    static boolean hasAnnotation(final Element element, final String annotation) {
+        for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            if (((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName()
+                    .contentEquals(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * スコープまたは限定子のアノテーションが付与されているかどうかを判定する。
+     *
+     * <p>判定方法は{@code DefaultComponentPredicate}と同じである。
+     * {@code Class#getAnnotations()}と同様に、スーパークラスから継承したアノテーション（{@code @Inherited}）も対象とする。</p>
+     *
+     * @param elements 要素のユーティリティ
+     * @param type クラス
+     * @return 付与されている場合は{@literal true}
+     */
+    static boolean hasScopeOrQualifier(final Elements elements, final TypeElement type) {
+        for (final AnnotationMirror annotation : elements.getAllAnnotationMirrors(type)) {
+            final Element annotationType = annotation.getAnnotationType().asElement();
+            if (hasAnnotation(annotationType, SCOPE) || hasAnnotation(annotationType, QUALIFIER)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
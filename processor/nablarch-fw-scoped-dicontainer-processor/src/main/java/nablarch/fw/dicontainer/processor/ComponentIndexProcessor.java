@@ -0,0 +1,138 @@
+package nablarch.fw.dicontainer.processor;
+
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import nablarch.fw.dicontainer.annotation.auto.ComponentIndex;
+
+/**
+ * コンポーネントのインデックスを出力するアノテーションプロセッサ。
+ *
+ * <p>{@code DefaultComponentPredicate}と同じく、スコープまたは限定子のアノテーションが付与されたクラスを
+ * コンポーネントとみなし、そのクラス名（バイナリ名）を{@value ComponentIndex#RESOURCE_NAME}に出力する。
+ * {@code AnnotationAutoContainerFactory}はインデックスを使用する設定の場合、
+ * このインデックスを読み込んでディレクトリトラバーサルを省略する。</p>
+ *
+ * <p>差分コンパイルに対応するため、出力済みのインデックスがあれば、
+ * 今回コンパイルしなかったクラスのうち現在も存在するものを引き継ぐ。</p>
+ *
+ */
+@SupportedAnnotationTypes("*")
+public final class ComponentIndexProcessor extends AbstractProcessor {
+
+    /**
+     * コンポーネントのクラス名
+     */
+    private final Set<String> components = new TreeSet<>();
+    /**
+     * 今回コンパイルしたクラス名
+     */
+    private final Set<String> processed = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (processed.isEmpty() == false) {
+                write();
+            }
+            return false;
+        }
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type);
+        }
+        return false;
+    }
+
+    /**
+     * クラスとそのネストしたクラスについて、コンポーネントかどうかを判定する。
+     *
+     * @param type クラス
+     */
+    private void processType(final TypeElement type) {
+        final String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+        processed.add(className);
+        if (Annotations.hasScopeOrQualifier(processingEnv.getElementUtils(), type)) {
+            components.add(className);
+        }
+        for (final TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested);
+        }
+    }
+
+    /**
+     * インデックスを出力する。
+     */
+    private void write() {
+        final Set<String> index = new TreeSet<>(components);
+        index.addAll(readExisting());
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.RESOURCE_NAME);
+            try (Writer writer = file.openWriter()) {
+                for (final String className : index) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write [" + ComponentIndex.RESOURCE_NAME + "]: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 出力済みのインデックスから、引き継ぐクラス名を読み込む。
+     *
+     * <p>今回コンパイルしたクラスと、既に存在しないクラスは引き継がない。</p>
+     *
+     * @return 引き継ぐクラス名
+     */
+    private Set<String> readExisting() {
+        final Set<String> existing = new TreeSet<>();
+        try {
+            final FileObject file = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", ComponentIndex.RESOURCE_NAME);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String className = line.trim();
+                    if (className.isEmpty() == false && processed.contains(className) == false
+                            && processingEnv.getElementUtils()
+                                    .getTypeElement(className.replace('$', '.')) != null) {
+                        existing.add(className);
+                    }
+                }
+            }
+        } catch (final FileNotFoundException | NoSuchFileException e) {
+            // 初回のコンパイル
+        } catch (final IOException | IllegalArgumentException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Could not read [" + ComponentIndex.RESOURCE_NAME + "]: " + e.getMessage());
+        }
+        return existing;
+    }
+}
@@ -0,0 +1,702 @@
+package nablarch.fw.dicontainer.processor;
+
+import static nablarch.fw.dicontainer.processor.Annotations.hasAnnotation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * ファクトリの生成に必要な、コンポーネントの構成要素を表すモデル。
+ *
+ * <p>構成要素の収集方法は{@code AnnotationMemberFactory}と同じである。
+ * インジェクションされるフィールドとメソッドはスーパークラスから順に、クラスごとにフィールド、メソッドの順で並べ、
+ * オーバーライドされたメソッドは除外する。</p>
+ *
+ */
+final class ComponentModel {
+
+    /** {@code javax.inject.Inject} */
+    private static final String INJECT = "javax.inject.Inject";
+    /** {@code javax.inject.Named} */
+    private static final String NAMED = "javax.inject.Named";
+    /** {@code javax.inject.Provider} */
+    private static final String PROVIDER = "javax.inject.Provider";
+    /** {@code nablarch.fw.dicontainer.Init} */
+    private static final String INIT = "nablarch.fw.dicontainer.Init";
+    /** {@code nablarch.fw.dicontainer.Destroy} */
+    private static final String DESTROY = "nablarch.fw.dicontainer.Destroy";
+    /** {@code nablarch.fw.dicontainer.Observes} */
+    private static final String OBSERVES = "nablarch.fw.dicontainer.Observes";
+
+    /** コンポーネントのクラス名（ソースコード上の名前） */
+    final String typeName;
+    /** コンポーネントのクラスが型パラメータを持つかどうか */
+    final boolean generic;
+    /** コンストラクタの引数 */
+    final List<InjectionPoint> constructorParameters;
+    /** インジェクションされるフィールドとメソッド */
+    final List<Member> members;
+    /** イベントをハンドリングするメソッド */
+    final List<Method> observesMethods;
+    /** 初期化メソッド。存在しない場合は{@literal null} */
+    final Method initMethod;
+    /** 破棄メソッド。存在しない場合は{@literal null} */
+    final Method destroyMethod;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param typeName コンポーネントのクラス名
+     * @param generic コンポーネントのクラスが型パラメータを持つかどうか
+     * @param constructorParameters コンストラクタの引数
+     * @param members インジェクションされるフィールドとメソッド
+     * @param observesMethods イベントをハンドリングするメソッド
+     * @param initMethod 初期化メソッド
+     * @param destroyMethod 破棄メソッド
+     */
+    private ComponentModel(final String typeName, final boolean generic,
+            final List<InjectionPoint> constructorParameters, final List<Member> members,
+            final List<Method> observesMethods, final Method initMethod,
+            final Method destroyMethod) {
+        this.typeName = typeName;
+        this.generic = generic;
+        this.constructorParameters = constructorParameters;
+        this.members = members;
+        this.observesMethods = observesMethods;
+        this.initMethod = initMethod;
+        this.destroyMethod = destroyMethod;
+    }
+
+    /**
+     * クラスを解析してモデルを生成する。
+     *
+     * <p>コンポーネントではないクラスや、ファクトリを生成できないクラスの場合は{@literal null}を返す。</p>
+     *
+     * @param env 処理環境
+     * @param type クラス
+     * @return モデル
+     */
+    static ComponentModel analyze(final ProcessingEnvironment env, final TypeElement type) {
+        return new Analyzer(env, type).analyze();
+    }
+
+    /**
+     * インジェクションされる箇所を表すクラス。
+     *
+     */
+    static final class InjectionPoint {
+
+        /** インジェクション箇所の名前 */
+        final String sourceName;
+        /** 値をキャストする型 */
+        final String castType;
+        /** 検索キーの型 */
+        final String keyType;
+        /** {@code @Named}の値。限定子がない場合は{@literal null} */
+        final String name;
+        /** {@code Provider}を使用するかどうか */
+        final boolean provider;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param sourceName インジェクション箇所の名前
+         * @param castType 値をキャストする型
+         * @param keyType 検索キーの型
+         * @param name {@code @Named}の値
+         * @param provider {@code Provider}を使用するかどうか
+         */
+        InjectionPoint(final String sourceName, final String castType, final String keyType,
+                final String name, final boolean provider) {
+            this.sourceName = sourceName;
+            this.castType = castType;
+            this.keyType = keyType;
+            this.name = name;
+            this.provider = provider;
+        }
+    }
+
+    /**
+     * メソッドを表すクラス。
+     *
+     */
+    static final class Method {
+
+        /** 宣言しているクラス名 */
+        final String declaringType;
+        /** メソッド名 */
+        final String name;
+        /** 引数の型 */
+        final List<String> parameterTypes;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param declaringType 宣言しているクラス名
+         * @param name メソッド名
+         * @param parameterTypes 引数の型
+         */
+        Method(final String declaringType, final String name, final List<String> parameterTypes) {
+            this.declaringType = declaringType;
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+    }
+
+    /**
+     * インジェクションされるフィールドまたはメソッドを表すクラス。
+     *
+     */
+    static final class Member {
+
+        /** 宣言しているクラス名 */
+        final String declaringType;
+        /** メンバー名 */
+        final String name;
+        /** フィールドの場合は{@literal true} */
+        final boolean field;
+        /** インジェクションされる箇所 */
+        final List<InjectionPoint> injectionPoints;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param declaringType 宣言しているクラス名
+         * @param name メンバー名
+         * @param field フィールドの場合は{@literal true}
+         * @param injectionPoints インジェクションされる箇所
+         */
+        Member(final String declaringType, final String name, final boolean field,
+                final List<InjectionPoint> injectionPoints) {
+            this.declaringType = declaringType;
+            this.name = name;
+            this.field = field;
+            this.injectionPoints = injectionPoints;
+        }
+    }
+
+    /**
+     * クラスを解析するクラス。
+     *
+     * <p>ファクトリを生成できない場合は{@link Decline}をスローして解析を中断する。</p>
+     *
+     */
+    private static final class Analyzer {
+
+        /** 要素のユーティリティ */
+        private final Elements elements;
+        /** 型のユーティリティ */
+        private final Types types;
+        /** 解析対象のクラス */
+        private final TypeElement type;
+        /** 解析対象のクラスのパッケージ名 */
+        private final String packageName;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param env 処理環境
+         * @param type 解析対象のクラス
+         */
+        Analyzer(final ProcessingEnvironment env, final TypeElement type) {
+            this.elements = env.getElementUtils();
+            this.types = env.getTypeUtils();
+            this.type = type;
+            this.packageName = packageName(type);
+        }
+
+        /**
+         * 解析する。
+         *
+         * @return モデル。生成できない場合は{@literal null}
+         */
+        ComponentModel analyze() {
+            if (type.getKind() != ElementKind.CLASS
+                    || type.getModifiers().contains(Modifier.ABSTRACT)
+                    || (type.getNestingKind() != NestingKind.TOP_LEVEL
+                            && (type.getNestingKind() != NestingKind.MEMBER
+                                    || type.getModifiers().contains(Modifier.STATIC) == false))
+                    || isAccessible(type) == false) {
+                return null;
+            }
+            final List<TypeElement> classes = new ArrayList<>();
+            for (TypeElement c = type; c != null; c = superclass(c)) {
+                classes.add(c);
+            }
+            final List<ExecutableElement> methods = collectMethods(classes);
+            if (isComponent(classes, methods) == false) {
+                return null;
+            }
+            try {
+                final List<InjectionPoint> constructorParameters = constructorParameters();
+                final List<Member> members = members(classes, methods);
+                final List<Method> observesMethods = new ArrayList<>();
+                for (final ExecutableElement method : methods) {
+                    if (hasAnnotation(method, OBSERVES)) {
+                        observesMethods.add(observesMethod(method));
+                    }
+                }
+                return new ComponentModel(typeName(type),
+                        type.getTypeParameters().isEmpty() == false, constructorParameters,
+                        members, observesMethods, lifeCycleMethod(methods, INIT),
+                        lifeCycleMethod(methods, DESTROY));
+            } catch (final Decline e) {
+                return null;
+            }
+        }
+
+        /**
+         * コンポーネントであるかどうかを判定する。
+         *
+         * <p>スコープまたは限定子が付与されたクラスか、
+         * インジェクションやライフサイクルのアノテーションが付いたメンバーを持つクラスをコンポーネントとみなす。</p>
+         *
+         * @param classes 解析対象のクラスとそのスーパークラス
+         * @param methods オーバーライドされていないメソッド
+         * @return コンポーネントの場合は{@literal true}
+         */
+        private boolean isComponent(final List<TypeElement> classes,
+                final List<ExecutableElement> methods) {
+            if (Annotations.hasScopeOrQualifier(elements, type)) {
+                return true;
+            }
+            for (final ExecutableElement constructor : ElementFilter
+                    .constructorsIn(type.getEnclosedElements())) {
+                if (hasAnnotation(constructor, INJECT)) {
+                    return true;
+                }
+            }
+            for (final TypeElement c : classes) {
+                for (final VariableElement field : ElementFilter
+                        .fieldsIn(c.getEnclosedElements())) {
+                    if (hasAnnotation(field, INJECT)) {
+                        return true;
+                    }
+                }
+            }
+            for (final ExecutableElement method : methods) {
+                if (hasAnnotation(method, INJECT) || hasAnnotation(method, INIT)
+                        || hasAnnotation(method, DESTROY) || hasAnnotation(method, OBSERVES)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * コンストラクタの引数を解析する。
+         *
+         * @return コンストラクタの引数
+         */
+        private List<InjectionPoint> constructorParameters() {
+            final List<ExecutableElement> constructors = ElementFilter
+                    .constructorsIn(type.getEnclosedElements());
+            ExecutableElement injectable = null;
+            for (final ExecutableElement constructor : constructors) {
+                if (hasAnnotation(constructor, INJECT)) {
+                    if (injectable != null) {
+                        throw new Decline();
+                    }
+                    injectable = constructor;
+                }
+            }
+            if (injectable == null) {
+                for (final ExecutableElement constructor : constructors) {
+                    if (constructor.getParameters().isEmpty()) {
+                        injectable = constructor;
+                    }
+                }
+            }
+            if (injectable == null || injectable.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new Decline();
+            }
+            final String sourceName = binaryName(type) + "." + type.getSimpleName();
+            final List<InjectionPoint> parameters = new ArrayList<>();
+            for (final VariableElement parameter : injectable.getParameters()) {
+                parameters.add(injectionPoint(sourceName, parameter));
+            }
+            return parameters;
+        }
+
+        /**
+         * インジェクションされるフィールドとメソッドを解析する。
+         *
+         * @param classes 解析対象のクラスとそのスーパークラス
+         * @param methods オーバーライドされていないメソッド
+         * @return インジェクションされるフィールドとメソッド
+         */
+        private List<Member> members(final List<TypeElement> classes,
+                final List<ExecutableElement> methods) {
+            final List<TypeElement> reversed = new ArrayList<>(classes);
+            Collections.reverse(reversed);
+            final List<Member> members = new ArrayList<>();
+            for (final TypeElement c : reversed) {
+                for (final VariableElement field : ElementFilter
+                        .fieldsIn(c.getEnclosedElements())) {
+                    if (hasAnnotation(field, INJECT)) {
+                        requireInjectable(field);
+                        if (field.getModifiers().contains(Modifier.FINAL)) {
+                            throw new Decline();
+                        }
+                        final String sourceName = binaryName(c) + "." + field.getSimpleName();
+                        members.add(new Member(typeName(c), field.getSimpleName().toString(),
+                                true,
+                                Collections.singletonList(injectionPoint(sourceName, field))));
+                    }
+                }
+                for (final ExecutableElement method : methods) {
+                    if (method.getEnclosingElement().equals(c)
+                            && hasAnnotation(method, INJECT)) {
+                        requireInjectable(method);
+                        final String sourceName = binaryName(c) + "." + method.getSimpleName();
+                        final List<InjectionPoint> injectionPoints = new ArrayList<>();
+                        for (final VariableElement parameter : method.getParameters()) {
+                            injectionPoints.add(injectionPoint(sourceName, parameter));
+                        }
+                        members.add(new Member(typeName(c), method.getSimpleName().toString(),
+                                false, injectionPoints));
+                    }
+                }
+            }
+            return members;
+        }
+
+        /**
+         * イベントをハンドリングするメソッドを解析する。
+         *
+         * @param method メソッド
+         * @return イベントをハンドリングするメソッド
+         */
+        private Method observesMethod(final ExecutableElement method) {
+            requireInjectable(method);
+            if (method.getParameters().size() != 1) {
+                throw new Decline();
+            }
+            return method(method);
+        }
+
+        /**
+         * ライフサイクルメソッドを解析する。
+         *
+         * @param methods オーバーライドされていないメソッド
+         * @param annotation アノテーションのクラス名
+         * @return ライフサイクルメソッド。存在しない場合は{@literal null}
+         */
+        private Method lifeCycleMethod(final List<ExecutableElement> methods,
+                final String annotation) {
+            ExecutableElement found = null;
+            for (final ExecutableElement method : methods) {
+                if (hasAnnotation(method, annotation)) {
+                    if (found != null) {
+                        throw new Decline();
+                    }
+                    found = method;
+                }
+            }
+            if (found == null) {
+                return null;
+            }
+            requireInjectable(found);
+            if (found.getParameters().isEmpty() == false) {
+                throw new Decline();
+            }
+            return method(found);
+        }
+
+        /**
+         * メソッドのモデルを生成する。
+         *
+         * @param method メソッド
+         * @return メソッドのモデル
+         */
+        private Method method(final ExecutableElement method) {
+            final List<String> parameterTypes = new ArrayList<>();
+            for (final VariableElement parameter : method.getParameters()) {
+                final TypeMirror parameterType = parameter.asType();
+                if (parameterType.getKind().isPrimitive()
+                        || isAccessible(parameterType) == false) {
+                    throw new Decline();
+                }
+                parameterTypes.add(types.erasure(parameterType).toString());
+            }
+            return new Method(typeName((TypeElement) method.getEnclosingElement()),
+                    method.getSimpleName().toString(), parameterTypes);
+        }
+
+        /**
+         * インジェクションされる箇所を解析する。
+         *
+         * @param sourceName インジェクション箇所の名前
+         * @param element フィールドまたは引数
+         * @return インジェクションされる箇所
+         */
+        private InjectionPoint injectionPoint(final String sourceName,
+                final VariableElement element) {
+            final TypeMirror valueType = element.asType();
+            if (valueType.getKind().isPrimitive() || isAccessible(valueType) == false) {
+                throw new Decline();
+            }
+            final TypeMirror erasure = types.erasure(valueType);
+            final boolean provider = erasure.getKind() == TypeKind.DECLARED
+                    && ((TypeElement) ((DeclaredType) erasure).asElement()).getQualifiedName()
+                            .contentEquals(PROVIDER);
+            TypeMirror keyType = erasure;
+            if (provider) {
+                final List<? extends TypeMirror> typeArguments = ((DeclaredType) valueType)
+                        .getTypeArguments();
+                if (typeArguments.size() != 1
+                        || typeArguments.get(0).getKind() != TypeKind.DECLARED
+                        || isAccessible(typeArguments.get(0)) == false) {
+                    throw new Decline();
+                }
+                keyType = types.erasure(typeArguments.get(0));
+            }
+            String name = null;
+            for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+                final TypeElement annotationType = (TypeElement) annotation.getAnnotationType()
+                        .asElement();
+                if (hasAnnotation(annotationType, Annotations.QUALIFIER)) {
+                    if (name != null
+                            || annotationType.getQualifiedName().contentEquals(NAMED) == false) {
+                        throw new Decline();
+                    }
+                    name = namedValue(annotation);
+                }
+            }
+            return new InjectionPoint(sourceName, erasure.toString(), keyType.toString(), name,
+                    provider);
+        }
+
+        /**
+         * {@code @Named}の値を取得する。
+         *
+         * @param annotation {@code @Named}
+         * @return 値
+         */
+        private String namedValue(final AnnotationMirror annotation) {
+            for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements
+                    .getElementValuesWithDefaults(annotation).entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+            return "";
+        }
+
+        /**
+         * オーバーライドされていないメソッドを、サブクラスから順に収集する。
+         *
+         * <p>判定方法は{@code MethodCollector}と同じである。</p>
+         *
+         * @param classes 解析対象のクラスとそのスーパークラス
+         * @return オーバーライドされていないメソッド
+         */
+        private List<ExecutableElement> collectMethods(final List<TypeElement> classes) {
+            final List<ExecutableElement> methods = new ArrayList<>();
+            for (final TypeElement c : classes) {
+                for (final ExecutableElement method : ElementFilter
+                        .methodsIn(c.getEnclosedElements())) {
+                    if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+                        continue;
+                    }
+                    if (method.getModifiers().contains(Modifier.PRIVATE)
+                            || isOverridden(method, methods) == false) {
+                        methods.add(method);
+                    }
+                }
+            }
+            return methods;
+        }
+
+        /**
+         * 収集済みのメソッドによってオーバーライドされているかどうかを判定する。
+         *
+         * @param self 判定対象のメソッド
+         * @param methods 収集済みのメソッド
+         * @return オーバーライドされている場合は{@literal true}
+         */
+        private boolean isOverridden(final ExecutableElement self,
+                final List<ExecutableElement> methods) {
+            final boolean packagePrivate = self.getModifiers().contains(Modifier.PUBLIC) == false
+                    && self.getModifiers().contains(Modifier.PROTECTED) == false;
+            for (final ExecutableElement other : methods) {
+                if (self.getEnclosingElement().equals(other.getEnclosingElement())
+                        || other.getModifiers().contains(Modifier.PRIVATE)
+                        || self.getSimpleName().equals(other.getSimpleName()) == false
+                        || sameParameterTypes(self, other) == false
+                        || (packagePrivate && packageName(self).equals(packageName(other)) == false)) {
+                    continue;
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 引数の型（イレイジャ）が一致するかどうかを判定する。
+         *
+         * @param self メソッド
+         * @param other 比較対象のメソッド
+         * @return 一致する場合は{@literal true}
+         */
+        private boolean sameParameterTypes(final ExecutableElement self,
+                final ExecutableElement other) {
+            final List<? extends VariableElement> a = self.getParameters();
+            final List<? extends VariableElement> b = other.getParameters();
+            if (a.size() != b.size()) {
+                return false;
+            }
+            for (int i = 0; i < a.size(); i++) {
+                if (types.isSameType(types.erasure(a.get(i).asType()),
+                        types.erasure(b.get(i).asType())) == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 生成するファクトリからインジェクションできるインスタンスメンバーであることを確認する。
+         *
+         * @param member フィールドまたはメソッド
+         */
+        private void requireInjectable(final Element member) {
+            final TypeElement declaringType = (TypeElement) member.getEnclosingElement();
+            if (member.getModifiers().contains(Modifier.STATIC)
+                    || member.getModifiers().contains(Modifier.PRIVATE)
+                    || isAccessible(declaringType) == false
+                    || (packageName.equals(packageName(member)) == false
+                            && member.getModifiers().contains(Modifier.PUBLIC) == false)) {
+                throw new Decline();
+            }
+        }
+
+        /**
+         * 生成するファクトリから型を参照できるかどうかを判定する。
+         *
+         * @param typeMirror 型
+         * @return 参照できる場合は{@literal true}
+         */
+        private boolean isAccessible(final TypeMirror typeMirror) {
+            final TypeMirror erasure = types.erasure(typeMirror);
+            switch (erasure.getKind()) {
+            case DECLARED:
+                return isAccessible((TypeElement) ((DeclaredType) erasure).asElement());
+            case ARRAY:
+                return isAccessible(((ArrayType) erasure).getComponentType());
+            default:
+                return erasure.getKind().isPrimitive();
+            }
+        }
+
+        /**
+         * 生成するファクトリからクラスを参照できるかどうかを判定する。
+         *
+         * @param typeElement クラス
+         * @return 参照できる場合は{@literal true}
+         */
+        private boolean isAccessible(final TypeElement typeElement) {
+            final boolean samePackage = packageName.equals(packageName(typeElement));
+            for (Element e = typeElement; e instanceof TypeElement; e = e.getEnclosingElement()) {
+                final TypeElement t = (TypeElement) e;
+                if (t.getNestingKind() != NestingKind.TOP_LEVEL
+                        && t.getNestingKind() != NestingKind.MEMBER) {
+                    return false;
+                }
+                if (t.getModifiers().contains(Modifier.PRIVATE)
+                        || (samePackage == false
+                                && t.getModifiers().contains(Modifier.PUBLIC) == false)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * スーパークラスを取得する。
+         *
+         * @param c クラス
+         * @return スーパークラス。{@code java.lang.Object}の場合は{@literal null}
+         */
+        private TypeElement superclass(final TypeElement c) {
+            final TypeMirror superclass = c.getSuperclass();
+            if (superclass.getKind() != TypeKind.DECLARED) {
+                return null;
+            }
+            final TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+            if (element.getQualifiedName().contentEquals(Object.class.getName())) {
+                return null;
+            }
+            return element;
+        }
+
+        /**
+         * ソースコード上で参照するクラス名を取得する。
+         *
+         * @param c クラス
+         * @return クラス名
+         */
+        private String typeName(final TypeElement c) {
+            return types.erasure(c.asType()).toString();
+        }
+
+        /**
+         * バイナリ名を取得する。
+         *
+         * @param c クラス
+         * @return バイナリ名
+         */
+        private String binaryName(final TypeElement c) {
+            return elements.getBinaryName(c).toString();
+        }
+
+        /**
+         * 要素のパッケージ名を取得する。
+         *
+         * @param element 要素
+         * @return パッケージ名
+         */
+        private String packageName(final Element element) {
+            return elements.getPackageOf(element).getQualifiedName().toString();
+        }
+    }
+
+    /**
+     * ファクトリを生成できないことを表す例外。
+     *
+     */
+    private static final class Decline extends RuntimeException {
+
+        /**
+         * シリアルバージョンUID
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * インスタンスを生成する。
+         */
+        Decline() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package nablarch.fw.dicontainer.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import nablarch.fw.dicontainer.annotation.PreferGeneratedMemberFactory;
+
+/**
+ * コンポーネントごとに{@code MemberFactory}実装クラスを生成するアノテーションプロセッサ。
+ *
+ * <p>{@code AnnotationMemberFactory}が実行時にリフレクションで読み取るアノテーション
+ * （{@code @Inject}、{@code @Init}、{@code @Destroy}、{@code @Observes}）をコンパイル時に読み取り、
+ * コンポーネントと同じパッケージに、クラス名の末尾に
+ * {@value PreferGeneratedMemberFactory#GENERATED_CLASS_SUFFIX}を付けたクラスを生成する。
+ * 生成されたクラスはコンストラクタの呼び出しやインジェクションをリフレクションを使用せずに行う。</p>
+ *
+ * <p>実行時にエラーとして通知すべき定義（{@code @Inject}が付いたコンストラクタが複数ある等）や、
+ * 生成したクラスからアクセスできないメンバー（privateなフィールド等）を含むコンポーネントについては生成しない。
+ * その場合は実行時にリフレクションで構成要素が生成される。</p>
+ *
+ */
+@SupportedAnnotationTypes("*")
+public final class MemberFactoryProcessor extends AbstractProcessor {
+
+    /**
+     * 生成済みのクラス名
+     */
+    private final Set<String> generated = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations,
+            final RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            return false;
+        }
+        for (final TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(type);
+        }
+        return false;
+    }
+
+    /**
+     * クラスとそのネストしたクラスについて、ファクトリを生成する。
+     *
+     * @param type クラス
+     */
+    private void processType(final TypeElement type) {
+        final ComponentModel model = ComponentModel.analyze(processingEnv, type);
+        if (model != null) {
+            write(type, model);
+        }
+        for (final TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+            processType(nested);
+        }
+    }
+
+    /**
+     * ファクトリのソースファイルを出力する。
+     *
+     * @param type コンポーネントのクラス
+     * @param model コンポーネントのモデル
+     */
+    private void write(final TypeElement type, final ComponentModel model) {
+        final PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        final String simpleName = (pkg.isUnnamed() ? binaryName
+                : binaryName.substring(pkg.getQualifiedName().length() + 1))
+                + PreferGeneratedMemberFactory.GENERATED_CLASS_SUFFIX;
+        final String qualifiedName = pkg.isUnnamed() ? simpleName
+                : pkg.getQualifiedName() + "." + simpleName;
+        if (generated.add(qualifiedName) == false) {
+            return;
+        }
+        final String source = new MemberFactoryWriter(pkg.isUnnamed() ? null
+                : pkg.getQualifiedName().toString(), simpleName, model).write();
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName,
+                    type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (final IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Could not write [" + qualifiedName + "]: " + e.getMessage(), type);
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package nablarch.fw.dicontainer.processor;
+
+import java.util.List;
+
+import nablarch.fw.dicontainer.processor.ComponentModel.InjectionPoint;
+import nablarch.fw.dicontainer.processor.ComponentModel.Member;
+import nablarch.fw.dicontainer.processor.ComponentModel.Method;
+
+/**
+ * コンポーネントのモデルから{@code MemberFactory}実装クラスのソースコードを出力するクラス。
+ *
+ * <p>生成するクラスは{@code nablarch.fw.dicontainer.component.impl}パッケージの
+ * {@code Generated}で始まる構成要素を、ラムダ式で直接コンストラクタやメンバーを呼び出すように組み立てる。
+ * 名前の衝突を避けるため、クラス名はすべて完全修飾名で出力する。</p>
+ *
+ */
+final class MemberFactoryWriter {
+
+    /** 構成要素の実装クラスのパッケージ */
+    private static final String IMPL = "nablarch.fw.dicontainer.component.impl.";
+    /** 構成要素のインターフェースのパッケージ */
+    private static final String COMPONENT = "nablarch.fw.dicontainer.component.";
+
+    /** パッケージ名。無名パッケージの場合は{@literal null} */
+    private final String packageName;
+    /** 生成するクラスの単純名 */
+    private final String simpleName;
+    /** コンポーネントのモデル */
+    private final ComponentModel model;
+    /** 出力先 */
+    private final StringBuilder out = new StringBuilder();
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param packageName パッケージ名
+     * @param simpleName 生成するクラスの単純名
+     * @param model コンポーネントのモデル
+     */
+    MemberFactoryWriter(final String packageName, final String simpleName,
+            final ComponentModel model) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.model = model;
+    }
+
+    /**
+     * ソースコードを出力する。
+     *
+     * @return ソースコード
+     */
+    String write() {
+        if (packageName != null) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n")
+                .append(" * {@link ").append(model.typeName)
+                .append("}の構成要素を生成するファクトリ。\n")
+                .append(" *\n")
+                .append(" * <p>").append(MemberFactoryProcessor.class.getName())
+                .append("によって生成された。</p>\n")
+                .append(" */\n")
+                .append("@SuppressWarnings({ \"rawtypes\", \"unchecked\" })\n")
+                .append("public final class ").append(simpleName)
+                .append(" implements nablarch.fw.dicontainer.component.factory.MemberFactory {\n\n");
+        writeConstructor();
+        writeFieldsAndMethods();
+        writeObservesMethods();
+        writeLifeCycleMethod("createInitMethod", "InitMethod", model.initMethod);
+        writeLifeCycleMethod("createDestroyMethod", "DestroyMethod", model.destroyMethod);
+        // 最後のメソッドの後の空行を取り除く
+        out.setLength(out.length() - 1);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    /**
+     * コンストラクタの要素を生成するメソッドを出力する。
+     */
+    private void writeConstructor() {
+        beginMethod("java.util.Optional<" + COMPONENT + "InjectableConstructor>",
+                "createConstructor");
+        out.append("        return java.util.Optional.of(new ").append(IMPL)
+                .append("GeneratedInjectableConstructor(\n")
+                .append("                args -> new ").append(model.typeName)
+                .append(model.generic ? "<>" : "").append('(');
+        writeArguments(model.constructorParameters);
+        out.append("),\n");
+        writeResolvers(model.constructorParameters, "                ");
+        out.append("));\n");
+        endMethod();
+    }
+
+    /**
+     * インジェクションされるフィールドとメソッドの要素を生成するメソッドを出力する。
+     */
+    private void writeFieldsAndMethods() {
+        beginMethod("java.util.List<" + COMPONENT + "InjectableMember>", "createFieldsAndMethods");
+        out.append("        final java.util.List<").append(COMPONENT)
+                .append("InjectableMember> members = new java.util.ArrayList<>();\n");
+        for (final Member member : model.members) {
+            out.append("        members.add(new ").append(IMPL)
+                    .append("GeneratedInjectableMember(\n")
+                    .append("                (component, args) -> ((").append(member.declaringType)
+                    .append(") component).").append(member.name);
+            if (member.field) {
+                out.append(" = ");
+                writeArguments(member.injectionPoints);
+            } else {
+                out.append('(');
+                writeArguments(member.injectionPoints);
+                out.append(')');
+            }
+            out.append(",\n");
+            writeResolvers(member.injectionPoints, "                ");
+            out.append("));\n");
+        }
+        out.append("        return members;\n");
+        endMethod();
+    }
+
+    /**
+     * イベントをハンドリングするメソッドの要素を生成するメソッドを出力する。
+     */
+    private void writeObservesMethods() {
+        beginMethod("java.util.List<" + COMPONENT + "ObservesMethod>", "createObservesMethod");
+        out.append("        final java.util.List<").append(COMPONENT)
+                .append("ObservesMethod> methods = new java.util.ArrayList<>();\n");
+        for (final Method method : model.observesMethods) {
+            final String eventType = method.parameterTypes.get(0);
+            out.append("        methods.add(new ").append(IMPL)
+                    .append("GeneratedObservesMethod(").append(eventType).append(".class,\n")
+                    .append("                (component, event) -> ((")
+                    .append(method.declaringType).append(") component).").append(method.name)
+                    .append("((").append(eventType).append(") event)));\n");
+        }
+        out.append("        return methods;\n");
+        endMethod();
+    }
+
+    /**
+     * ライフサイクルメソッドの要素を生成するメソッドを出力する。
+     *
+     * @param factoryMethodName ファクトリのメソッド名
+     * @param elementType 要素のインターフェース名
+     * @param method ライフサイクルメソッド。存在しない場合は{@literal null}
+     */
+    private void writeLifeCycleMethod(final String factoryMethodName, final String elementType,
+            final Method method) {
+        beginMethod("java.util.Optional<" + COMPONENT + elementType + ">", factoryMethodName);
+        if (method == null) {
+            out.append("        return java.util.Optional.empty();\n");
+        } else {
+            out.append("        return java.util.Optional.of(new ").append(IMPL)
+                    .append("GeneratedLifeCycleMethod(\n")
+                    .append("                component -> ((").append(method.declaringType)
+                    .append(") component).").append(method.name).append("()));\n");
+        }
+        endMethod();
+    }
+
+    /**
+     * {@code MemberFactory}のメソッドの開始部分を出力する。
+     *
+     * @param returnType 戻り値の型
+     * @param name メソッド名
+     */
+    private void beginMethod(final String returnType, final String name) {
+        out.append("    @Override\n")
+                .append("    public ").append(returnType).append(' ').append(name)
+                .append("(final java.lang.Class<?> componentType,\n")
+                .append("            final ").append(COMPONENT)
+                .append("ErrorCollector errorCollector) {\n");
+    }
+
+    /**
+     * メソッドの終了部分を出力する。
+     */
+    private void endMethod() {
+        out.append("    }\n\n");
+    }
+
+    /**
+     * 依存コンポーネントを型変換して渡す引数を出力する。
+     *
+     * @param injectionPoints インジェクションされる箇所
+     */
+    private void writeArguments(final List<InjectionPoint> injectionPoints) {
+        for (int i = 0; i < injectionPoints.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append('(').append(injectionPoints.get(i).castType).append(") args[").append(i)
+                    .append(']');
+        }
+    }
+
+    /**
+     * 依存コンポーネントのリゾルバを生成する式を出力する。
+     *
+     * @param injectionPoints インジェクションされる箇所
+     * @param indent インデント
+     */
+    private void writeResolvers(final List<InjectionPoint> injectionPoints, final String indent) {
+        if (injectionPoints.isEmpty()) {
+            out.append(indent).append(IMPL).append("InjectionComponentResolvers.empty()");
+            return;
+        }
+        out.append(indent).append("new ").append(IMPL)
+                .append("InjectionComponentResolvers(java.util.Arrays.<").append(COMPONENT)
+                .append("InjectionComponentResolver> asList(");
+        for (int i = 0; i < injectionPoints.size(); i++) {
+            final InjectionPoint injectionPoint = injectionPoints.get(i);
+            out.append(i > 0 ? ",\n" : "\n").append(indent).append("        new ").append(IMPL)
+                    .append("DefaultInjectionComponentResolver(")
+                    .append(literal(injectionPoint.sourceName)).append(", ");
+            if (injectionPoint.name == null) {
+                out.append("new ").append(COMPONENT).append("ComponentKey<>(")
+                        .append(injectionPoint.keyType).append(".class)");
+            } else {
+                out.append(COMPONENT).append("ComponentKey.named(")
+                        .append(injectionPoint.keyType).append(".class, ")
+                        .append(literal(injectionPoint.name)).append(')');
+            }
+            out.append(", ").append(injectionPoint.provider).append(')');
+        }
+        out.append("))");
+    }
+
+    /**
+     * 文字列リテラルを生成する。
+     *
+     * @param value 値
+     * @return 文字列リテラル
+     */
+    private static String literal(final String value) {
+        final StringBuilder buf = new StringBuilder("\"");
+        for (final char c : value.toCharArray()) {
+            switch (c) {
+            case '"':
+                buf.append("\\\"");
+                break;
+            case '\\':
+                buf.append("\\\\");
+                break;
+            case '\n':
+                buf.append("\\n");
+                break;
+            case '\r':
+                buf.append("\\r");
+                break;
+            case '\t':
+                buf.append("\\t");
+                break;
+            default:
+                if (c < 0x20 || c > 0x7e) {
+                    buf.append(String.format("\\u%04x", (int) c));
+                } else {
+                    buf.append(c);
+                }
+            }
+        }
+        return buf.append('"').toString();
+    }
+}
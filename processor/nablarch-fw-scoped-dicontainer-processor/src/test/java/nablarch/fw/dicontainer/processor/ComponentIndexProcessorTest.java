@@ -0,0 +1,118 @@
+package nablarch.fw.dicontainer.processor;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import nablarch.fw.dicontainer.annotation.auto.ComponentIndex;
+
+public class ComponentIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File classes;
+
+    @Before
+    public void setUp() throws Exception {
+        classes = temporaryFolder.newFolder("classes");
+    }
+
+    @Test
+    public void writeIndex() throws Exception {
+        compile(source("sample.Aaa",
+                "package sample;",
+                "@javax.inject.Singleton",
+                "public class Aaa {",
+                "    @javax.inject.Named(\"nested\") public static class Nested {}",
+                "}"),
+                source("sample.Bbb",
+                        "package sample;",
+                        "public class Bbb {}"));
+
+        assertThat(readIndex(), is(Arrays.asList("sample.Aaa", "sample.Aaa$Nested")));
+    }
+
+    @Test
+    public void writeIndexInheritedScope() throws Exception {
+        compile(source("sample.InheritedScope",
+                "package sample;",
+                "@javax.inject.Scope",
+                "@java.lang.annotation.Inherited",
+                "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)",
+                "public @interface InheritedScope {}"),
+                source("sample.Aaa",
+                        "package sample;",
+                        "@InheritedScope",
+                        "public class Aaa {}"),
+                source("sample.Bbb",
+                        "package sample;",
+                        "public class Bbb extends Aaa {}"));
+
+        assertThat(readIndex(), is(Arrays.asList("sample.Aaa", "sample.Bbb")));
+    }
+
+    @Test
+    public void mergeExistingIndex() throws Exception {
+        compile(source("sample.Aaa",
+                "package sample;",
+                "@javax.inject.Singleton",
+                "public class Aaa {}"),
+                source("sample.Bbb",
+                        "package sample;",
+                        "@javax.inject.Singleton",
+                        "public class Bbb {}"));
+
+        // Bbbだけを再コンパイルしてコンポーネントではなくす
+        compile(source("sample.Bbb",
+                "package sample;",
+                "public class Bbb {}"));
+
+        assertThat(readIndex(), is(Collections.singletonList("sample.Aaa")));
+    }
+
+    private List<String> readIndex() throws Exception {
+        return Files.readAllLines(new File(classes, ComponentIndex.RESOURCE_NAME).toPath(),
+                StandardCharsets.UTF_8);
+    }
+
+    private void compile(final JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<String> options = Arrays.asList(
+                "-d", classes.getPath(),
+                "-classpath", classes.getPath() + File.pathSeparator
+                        + System.getProperty("java.class.path"));
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options,
+                null, Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new ComponentIndexProcessor()));
+        assertTrue(task.call());
+    }
+
+    private static JavaFileObject source(final String className, final String... lines) {
+        final URI uri = URI.create(
+                "string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        };
+    }
+}
@@ -0,0 +1,157 @@
+package nablarch.fw.dicontainer.processor;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.inject.Provider;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.event.EventTrigger;
+
+public class MemberFactoryProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private File classes;
+
+    @Before
+    public void setUp() throws Exception {
+        classes = temporaryFolder.newFolder("classes");
+    }
+
+    @Test
+    public void generate() throws Exception {
+        compile(source("sample.Dep",
+                "package sample;",
+                "@javax.inject.Singleton",
+                "public class Dep {}"),
+                source("sample.Aaa",
+                        "package sample;",
+                        "import javax.inject.*;",
+                        "import nablarch.fw.dicontainer.*;",
+                        "@Singleton",
+                        "public class Aaa {",
+                        "    public final Dep constructorDep;",
+                        "    @Inject public Provider<Dep> providerDep;",
+                        "    public Dep methodDep;",
+                        "    public Object event;",
+                        "    public boolean initialized;",
+                        "    @Inject Aaa(Dep dep) { constructorDep = dep; }",
+                        "    @Inject void setDep(Dep dep) throws Exception { methodDep = dep; }",
+                        "    @Observes void handle(String event) { this.event = event; }",
+                        "    @Init void init() { initialized = true; }",
+                        "}"));
+
+        assertTrue(new File(classes, "sample/Aaa$$MemberFactory.class").exists());
+
+        try (URLClassLoader loader = classLoader()) {
+            final Class<?> dep = loader.loadClass("sample.Dep");
+            final Class<?> aaa = loader.loadClass("sample.Aaa");
+            final Container container = AnnotationContainerBuilder.createDefault()
+                    .register(dep)
+                    .register(aaa)
+                    .build();
+            final Object component = container.getComponent(aaa);
+            final Object expected = container.getComponent(dep);
+
+            assertThat(get(component, "constructorDep"), is(sameInstance(expected)));
+            assertThat(((Provider<?>) get(component, "providerDep")).get(),
+                    is(sameInstance(expected)));
+            assertThat(get(component, "methodDep"), is(sameInstance(expected)));
+            assertThat(get(component, "initialized"), is((Object) true));
+
+            container.getComponent(EventTrigger.class).fire("event");
+            assertThat(get(component, "event"), is((Object) "event"));
+        }
+    }
+
+    @Test
+    public void notGenerateWhenPrivateMemberExists() throws Exception {
+        compile(source("sample.Bbb",
+                "package sample;",
+                "@javax.inject.Singleton",
+                "public class Bbb {",
+                "    @javax.inject.Inject private Object dep;",
+                "}"));
+
+        assertTrue(new File(classes, "sample/Bbb.class").exists());
+        assertFalse(new File(classes, "sample/Bbb$$MemberFactory.class").exists());
+    }
+
+    @Test
+    public void notGenerateWhenInjectableConstructorDuplicated() throws Exception {
+        compile(source("sample.Ccc",
+                "package sample;",
+                "@javax.inject.Singleton",
+                "public class Ccc {",
+                "    @javax.inject.Inject Ccc() {}",
+                "    @javax.inject.Inject Ccc(Object o) {}",
+                "}"));
+
+        assertTrue(new File(classes, "sample/Ccc.class").exists());
+        assertFalse(new File(classes, "sample/Ccc$$MemberFactory.class").exists());
+    }
+
+    @Test
+    public void notGenerateForNonComponent() throws Exception {
+        compile(source("sample.Ddd",
+                "package sample;",
+                "public class Ddd {}"));
+
+        assertTrue(new File(classes, "sample/Ddd.class").exists());
+        assertFalse(new File(classes, "sample/Ddd$$MemberFactory.class").exists());
+    }
+
+    private void compile(final JavaFileObject... sources) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final List<String> options = new ArrayList<>(Arrays.asList(
+                "-d", classes.getPath(),
+                "-classpath", System.getProperty("java.class.path")));
+        final JavaCompiler.CompilationTask task = compiler.getTask(null, null, null, options,
+                null, Arrays.asList(sources));
+        task.setProcessors(Collections.singletonList(new MemberFactoryProcessor()));
+        assertTrue(task.call());
+    }
+
+    private URLClassLoader classLoader() throws Exception {
+        return new URLClassLoader(new URL[] { classes.toURI().toURL() },
+                getClass().getClassLoader());
+    }
+
+    private static Object get(final Object component, final String name) throws Exception {
+        final Field field = component.getClass().getField(name);
+        return field.get(component);
+    }
+
+    private static JavaFileObject source(final String className, final String... lines) {
+        final URI uri = URI.create(
+                "string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package nablarch.fw.dicontainer;
+
+import nablarch.fw.dicontainer.component.ComponentKey;
+
+/**
+ * 検索キーの解決を済ませたコンポーネントへの参照。
+ * 
+ * <p>{@link Container#handle(ComponentKey)}で取得する。
+ * 取得時にコンポーネント定義とスコープが確定しているため、
+ * {@link #get()}では検索キーの生成や検索を行わずにコンポーネントを取得する。</p>
+ * 
+ * <p>DIコンテナが破棄されるまで有効であり、フィールドに保持して繰り返し使用できる。</p>
+ *
+ * @param <T> コンポーネントの型
+ */
+public interface ComponentHandle<T> {
+
+    /**
+     * コンポーネントを取得する。
+     * 
+     * @return コンポーネント
+     */
+    T get();
+}
@@ -30,6 +30,21 @@ public interface Container {
      */
     <T> T getComponent(Class<T> key, Annotation... qualifiers);
 
+    /**
+     * {@link javax.inject.Named}で限定されたコンポーネントを取得する。
+     * 
+     * <p>{@code getComponent(key, named)}（{@code named}は{@code @Named(name)}のインスタンス）と同じコンポーネントを、
+     * アノテーションのインスタンスを生成せずに取得する。</p>
+     * 
+     * @param <T> コンポーネントの型
+     * @param key 検索キーとなるクラス
+     * @param name 名前
+     * @return コンポーネント
+     */
+    default <T> T getComponent(final Class<T> key, final String name) {
+        return getComponent(ComponentKey.named(key, name));
+    }
+
     /**
      * コンポーネントを取得する。
      * 
@@ -54,6 +69,22 @@ public interface Container {
      */
     <T> T getComponent(ComponentKey<T> key);
 
+    /**
+     * 検索キーを解決したコンポーネントへの参照を取得する。
+     * 
+     * <p>同じコンポーネントを繰り返し取得する場合は、
+     * 参照を保持して{@link ComponentHandle#get()}を呼び出すことで検索キーの解決を省略できる。</p>
+     * 
+     * <p>デフォルトでは、{@link #getComponent(ComponentKey)}へ委譲する参照を返す。</p>
+     *
+     * @param <T> コンポーネントの型
+     * @param key 検索キー
+     * @return コンポーネントへの参照
+     */
+    default <T> ComponentHandle<T> handle(final ComponentKey<T> key) {
+        return () -> getComponent(key);
+    }
+
     /**
      * コンポーネントを削除する。
      *
@@ -1,7 +1,6 @@
 package nablarch.fw.dicontainer.annotation;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -18,7 +17,7 @@ public final class AnnotationComponentKeyFactory implements ComponentKeyFactory
 
     @Override
     public <T> ComponentKey<T> fromComponentClass(final Class<T> componentType) {
-        final Set<Annotation> qualifiers = Arrays.stream(componentType.getAnnotations())
+        final Set<Annotation> qualifiers = ClassMetadata.of(componentType).getAnnotations().stream()
                 .filter(a -> a.annotationType().isAnnotationPresent(Qualifier.class))
                 .collect(Collectors.toSet());
         return new ComponentKey<>(componentType, qualifiers);
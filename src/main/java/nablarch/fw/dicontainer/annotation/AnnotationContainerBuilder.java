@@ -167,10 +167,11 @@ public final class AnnotationContainerBuilder extends ContainerBuilder<Annotatio
          */
         private ScopeDecider scopeDecider = AnnotationScopeDecider.createDefault();
         /**
-         * コンポーネント定義の構成要素ファクトリ
+         * コンポーネント定義の構成要素ファクトリ。
+         * アノテーションプロセッサが生成したファクトリがあればそれを使用し、なければリフレクションで生成する。
          */
-        private MemberFactory memberFactory = new AnnotationMemberFactory(
-                new DefaultInjectionComponentResolverFactory());
+        private MemberFactory memberFactory = new PreferGeneratedMemberFactory(
+                new AnnotationMemberFactory(new DefaultInjectionComponentResolverFactory()));
         /**
          * コンポーネント定義のファクトリ
          */
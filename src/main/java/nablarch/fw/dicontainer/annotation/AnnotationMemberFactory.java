@@ -5,7 +5,6 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -27,7 +26,6 @@ import nablarch.fw.dicontainer.component.InitMethod;
 import nablarch.fw.dicontainer.component.InjectableConstructor;
 import nablarch.fw.dicontainer.component.InjectableMember;
 import nablarch.fw.dicontainer.component.InjectionComponentResolver;
-import nablarch.fw.dicontainer.component.MethodCollector;
 import nablarch.fw.dicontainer.component.ObservesMethod;
 import nablarch.fw.dicontainer.component.factory.InjectionComponentResolverFactory;
 import nablarch.fw.dicontainer.component.factory.MemberFactory;
@@ -45,6 +43,8 @@ import nablarch.fw.dicontainer.exception.LifeCycleMethodDuplicatedException;
 /**
  * アノテーションをもとにコンポーネント定義の構成要素を生成するファクトリクラス。
  *
+ * <p>クラスの情報は{@link ClassMetadata}から読み取る。</p>
+ *
  */
 public final class AnnotationMemberFactory implements MemberFactory {
 
@@ -67,8 +67,8 @@ public final class AnnotationMemberFactory implements MemberFactory {
     @Override
     public Optional<InjectableConstructor> createConstructor(final Class<?> componentType,
             final ErrorCollector errorCollector) {
-        final Set<Constructor<?>> constructors = Arrays
-                .stream(componentType.getDeclaredConstructors())
+        final ClassMetadata metadata = ClassMetadata.of(componentType);
+        final Set<Constructor<?>> constructors = metadata.getDeclaredConstructors().stream()
                 .filter(a -> a.isAnnotationPresent(Inject.class))
                 .collect(Collectors.toSet());
 
@@ -89,8 +89,7 @@ public final class AnnotationMemberFactory implements MemberFactory {
             return Optional.of(injectableConstructor);
         }
 
-        final Constructor<?> noArgConstructor = Arrays
-                .stream(componentType.getDeclaredConstructors())
+        final Constructor<?> noArgConstructor = metadata.getDeclaredConstructors().stream()
                 .filter(c -> c.getParameterCount() == 0)
                 .findAny().orElse(null);
 
@@ -113,32 +112,19 @@ public final class AnnotationMemberFactory implements MemberFactory {
     @Override
     public List<InjectableMember> createFieldsAndMethods(final Class<?> componentType,
             final ErrorCollector errorCollector) {
-        final MethodCollector methodCollector = new MethodCollector();
+        final ClassMetadata metadata = ClassMetadata.of(componentType);
         final Map<Class<?>, List<Field>> fields = new IdentityHashMap<>();
         final Map<Class<?>, List<Method>> methods = new IdentityHashMap<>();
-        final List<Class<?>> classes = new ArrayList<>();
-        for (final Class<?> clazz : new ClassInheritances(componentType)) {
-            classes.add(clazz);
+        final List<Class<?>> classes = new ArrayList<>(metadata.getClassInheritances());
+        for (final Class<?> clazz : classes) {
             fields.put(clazz, new ArrayList<>());
             methods.put(clazz, new ArrayList<>());
-            for (final Field field : clazz.getDeclaredFields()) {
-                if (field.isAnnotationPresent(Inject.class)) {
-                    final Class<?> key = field.getDeclaringClass();
-                    final List<Field> list = fields.get(key);
-                    list.add(field);
-                }
-            }
-            for (final Method method : clazz.getDeclaredMethods()) {
-                methodCollector.addMethodIfNotOverridden(method);
-            }
         }
-
-        for (final Method method : methodCollector.getMethods()) {
-            if (method.isAnnotationPresent(Inject.class)) {
-                final Class<?> key = method.getDeclaringClass();
-                final List<Method> list = methods.get(key);
-                list.add(method);
-            }
+        for (final Field field : metadata.getFieldsAnnotatedWith(Inject.class)) {
+            fields.get(field.getDeclaringClass()).add(field);
+        }
+        for (final Method method : metadata.getMethodsAnnotatedWith(Inject.class)) {
+            methods.get(method.getDeclaringClass()).add(method);
         }
 
         Collections.reverse(classes);
@@ -166,14 +152,11 @@ public final class AnnotationMemberFactory implements MemberFactory {
     public List<ObservesMethod> createObservesMethod(final Class<?> componentType,
             final ErrorCollector errorCollector) {
 
-        final MethodCollector methodCollector = MethodCollector.collectFromClass(componentType);
-
         final List<ObservesMethod> observesMethods = new ArrayList<>();
-        for (final Method method : methodCollector.getMethods()) {
-            if (method.isAnnotationPresent(Observes.class)) {
-                final ObservesMethod observesMethod = new DefaultObservesMethod(method);
-                observesMethods.add(observesMethod);
-            }
+        for (final Method method : ClassMetadata.of(componentType)
+                .getMethodsAnnotatedWith(Observes.class)) {
+            final ObservesMethod observesMethod = new DefaultObservesMethod(method);
+            observesMethods.add(observesMethod);
         }
 
         return observesMethods;
@@ -209,12 +192,10 @@ public final class AnnotationMemberFactory implements MemberFactory {
             final Function<Method, T> factory, final Class<?> componentType,
             final ErrorCollector errorCollector) {
 
-        final MethodCollector methodCollector = MethodCollector.collectFromClass(componentType);
         final List<T> methods = new ArrayList<>();
-        for (final Method method : methodCollector.getMethods()) {
-            if (method.isAnnotationPresent(annotationClass)) {
-                methods.add(factory.apply(method));
-            }
+        for (final Method method : ClassMetadata.of(componentType)
+                .getMethodsAnnotatedWith(annotationClass)) {
+            methods.add(factory.apply(method));
         }
         if (methods.size() > 1) {
             errorCollector.add(new LifeCycleMethodDuplicatedException(
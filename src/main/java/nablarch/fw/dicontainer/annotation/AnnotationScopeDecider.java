@@ -1,7 +1,6 @@
 package nablarch.fw.dicontainer.annotation;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -220,7 +219,7 @@ public final class AnnotationScopeDecider implements ScopeDecider {
 
     private abstract class Source {
 
-        protected abstract Annotation[] getAnnotations();
+        protected abstract List<Annotation> getAnnotations();
 
         protected abstract ScopeDuplicatedException newScopeDuplicatedException();
 
@@ -228,7 +227,7 @@ public final class AnnotationScopeDecider implements ScopeDecider {
                 Class<? extends Annotation> annotation);
 
         private Optional<Scope> decide(final ErrorCollector errorCollector) {
-            final Set<Annotation> annotations = Arrays.stream(getAnnotations())
+            final Set<Annotation> annotations = getAnnotations().stream()
                     .filter(a -> a.annotationType().isAnnotationPresent(javax.inject.Scope.class))
                     .collect(Collectors.toSet());
             if (annotations.isEmpty()) {
@@ -257,8 +256,8 @@ public final class AnnotationScopeDecider implements ScopeDecider {
         }
 
         @Override
-        protected Annotation[] getAnnotations() {
-            return componentType.getAnnotations();
+        protected List<Annotation> getAnnotations() {
+            return ClassMetadata.of(componentType).getAnnotations();
         }
 
         @Override
@@ -0,0 +1,184 @@
+package nablarch.fw.dicontainer.annotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import nablarch.fw.dicontainer.component.MethodCollector;
+
+/**
+ * コンポーネント定義の構成要素を生成するために、クラスから読み取った情報。
+ *
+ * <p>クラス階層を1回だけ辿り、アノテーション、コンストラクタ、フィールド、
+ * オーバーライドされていないメソッドを保持する。
+ * インターフェース（アノテーションを含む）など、スーパークラスを辿れない型はクラス階層を辿らない。
+ * インスタンスはクラスごとにキャッシュされ、変更できない。</p>
+ *
+ */
+public final class ClassMetadata {
+
+    /**
+     * クラスごとのキャッシュ
+     */
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(final Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * クラスに付与されたアノテーション（継承したものを含む）
+     */
+    private final List<Annotation> annotations;
+    /**
+     * クラスで宣言されたコンストラクタ
+     */
+    private final List<Constructor<?>> constructors;
+    /**
+     * 起点クラスからスーパークラスを辿ったクラス（{@link Object}を除く）
+     */
+    private final List<Class<?>> classInheritances;
+    /**
+     * 各クラスで宣言されたフィールド
+     */
+    private final List<Field> fields;
+    /**
+     * オーバーライドされていないメソッド
+     */
+    private final List<Method> methods;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param type クラス
+     */
+    private ClassMetadata(final Class<?> type) {
+        this.annotations = Collections.unmodifiableList(Arrays.asList(type.getAnnotations()));
+        this.constructors = Collections
+                .unmodifiableList(Arrays.asList(type.getDeclaredConstructors()));
+        final List<Class<?>> classInheritances = new ArrayList<>();
+        final List<Field> fields = new ArrayList<>();
+        final MethodCollector methodCollector = new MethodCollector();
+        if (type.isInterface() == false && type.isPrimitive() == false
+                && type.isArray() == false) {
+            for (final Class<?> c : new ClassInheritances(type)) {
+                classInheritances.add(c);
+                fields.addAll(Arrays.asList(c.getDeclaredFields()));
+                for (final Method method : c.getDeclaredMethods()) {
+                    methodCollector.addMethodIfNotOverridden(method);
+                }
+            }
+        }
+        this.classInheritances = Collections.unmodifiableList(classInheritances);
+        this.fields = Collections.unmodifiableList(fields);
+        this.methods = Collections.unmodifiableList(new ArrayList<>(methodCollector.getMethods()));
+    }
+
+    /**
+     * クラスから読み取った情報を取得する。
+     *
+     * @param type クラス
+     * @return クラスから読み取った情報
+     */
+    public static ClassMetadata of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    /**
+     * クラスに付与されたアノテーションを取得する。
+     *
+     * @return アノテーション（継承したものを含む）
+     * @see Class#getAnnotations()
+     */
+    public List<Annotation> getAnnotations() {
+        return annotations;
+    }
+
+    /**
+     * クラスで宣言されたコンストラクタを取得する。
+     *
+     * @return コンストラクタ
+     * @see Class#getDeclaredConstructors()
+     */
+    public List<Constructor<?>> getDeclaredConstructors() {
+        return constructors;
+    }
+
+    /**
+     * 起点クラスからスーパークラスを辿ったクラスを取得する。
+     *
+     * @return 起点クラスから順に並んだクラス（{@link Object}を除く）
+     * @see ClassInheritances
+     */
+    public List<Class<?>> getClassInheritances() {
+        return classInheritances;
+    }
+
+    /**
+     * 各クラスで宣言されたフィールドを取得する。
+     *
+     * @return {@link #getClassInheritances()}の順に並んだフィールド
+     */
+    public List<Field> getFields() {
+        return fields;
+    }
+
+    /**
+     * オーバーライドされていないメソッドを取得する。
+     *
+     * <p>ブリッジメソッド、合成メソッド、抽象メソッドは含まない。</p>
+     *
+     * @return {@link #getClassInheritances()}の順に並んだメソッド
+     * @see MethodCollector
+     */
+    public List<Method> getMethods() {
+        return methods;
+    }
+
+    /**
+     * アノテーションが付与されたフィールドを取得する。
+     *
+     * @param annotationType アノテーションの型
+     * @return {@link #getFields()}の順に並んだフィールド
+     */
+    public List<Field> getFieldsAnnotatedWith(final Class<? extends Annotation> annotationType) {
+        return annotatedWith(fields, annotationType);
+    }
+
+    /**
+     * アノテーションが付与されたメソッドを取得する。
+     *
+     * @param annotationType アノテーションの型
+     * @return {@link #getMethods()}の順に並んだメソッド
+     */
+    public List<Method> getMethodsAnnotatedWith(
+            final Class<? extends Annotation> annotationType) {
+        return annotatedWith(methods, annotationType);
+    }
+
+    /**
+     * アノテーションが付与された要素を抽出する。
+     *
+     * @param <T> 要素の型
+     * @param elements 要素
+     * @param annotationType アノテーションの型
+     * @return アノテーションが付与された要素
+     */
+    private static <T extends AnnotatedElement> List<T> annotatedWith(final List<T> elements,
+            final Class<? extends Annotation> annotationType) {
+        final List<T> annotated = new ArrayList<>();
+        for (final T element : elements) {
+            if (element.isAnnotationPresent(annotationType)) {
+                annotated.add(element);
+            }
+        }
+        return annotated;
+    }
+}
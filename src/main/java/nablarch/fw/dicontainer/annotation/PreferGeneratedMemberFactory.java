@@ -0,0 +1,124 @@
+package nablarch.fw.dicontainer.annotation;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import nablarch.fw.dicontainer.component.DestroyMethod;
+import nablarch.fw.dicontainer.component.ErrorCollector;
+import nablarch.fw.dicontainer.component.InitMethod;
+import nablarch.fw.dicontainer.component.InjectableConstructor;
+import nablarch.fw.dicontainer.component.InjectableMember;
+import nablarch.fw.dicontainer.component.ObservesMethod;
+import nablarch.fw.dicontainer.component.factory.MemberFactory;
+
+/**
+ * アノテーションプロセッサが生成した{@link MemberFactory}を優先して使用するファクトリクラス。
+ *
+ * <p>コンポーネントのクラスと同じパッケージに、クラス名の末尾に{@value #GENERATED_CLASS_SUFFIX}を付けた
+ * {@link MemberFactory}実装クラスが存在する場合はそれを使用し、
+ * 存在しない場合は委譲先のファクトリ（通常は{@link AnnotationMemberFactory}）を使用する。
+ * 生成されたファクトリはリフレクションによるメタデータの探索を行わない。</p>
+ *
+ * <p>生成されたファクトリの有無はコンポーネントのクラスごとに一度だけ、クラスファイルの有無で確認する。</p>
+ *
+ */
+public final class PreferGeneratedMemberFactory implements MemberFactory {
+
+    /**
+     * 生成されるファクトリのクラス名の接尾辞
+     */
+    public static final String GENERATED_CLASS_SUFFIX = "$$MemberFactory";
+
+    /**
+     * コンポーネントのクラスごとの、生成されたファクトリ
+     */
+    private static final ClassValue<Optional<MemberFactory>> GENERATED = new ClassValue<Optional<MemberFactory>>() {
+        @Override
+        protected Optional<MemberFactory> computeValue(final Class<?> componentType) {
+            return load(componentType);
+        }
+    };
+
+    /**
+     * 生成されたファクトリが存在しない場合の委譲先
+     */
+    private final MemberFactory fallback;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param fallback 生成されたファクトリが存在しない場合の委譲先
+     */
+    public PreferGeneratedMemberFactory(final MemberFactory fallback) {
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    @Override
+    public Optional<InjectableConstructor> createConstructor(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return select(componentType).createConstructor(componentType, errorCollector);
+    }
+
+    @Override
+    public List<InjectableMember> createFieldsAndMethods(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return select(componentType).createFieldsAndMethods(componentType, errorCollector);
+    }
+
+    @Override
+    public List<ObservesMethod> createObservesMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return select(componentType).createObservesMethod(componentType, errorCollector);
+    }
+
+    @Override
+    public Optional<InitMethod> createInitMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return select(componentType).createInitMethod(componentType, errorCollector);
+    }
+
+    @Override
+    public Optional<DestroyMethod> createDestroyMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return select(componentType).createDestroyMethod(componentType, errorCollector);
+    }
+
+    /**
+     * コンポーネントのクラスに対して使用するファクトリを選択する。
+     *
+     * @param componentType コンポーネントのクラス
+     * @return 生成されたファクトリ。存在しない場合は委譲先のファクトリ
+     */
+    private MemberFactory select(final Class<?> componentType) {
+        return GENERATED.get(componentType).orElse(fallback);
+    }
+
+    /**
+     * 生成されたファクトリをロードする。
+     *
+     * <p>生成されたファクトリが存在しない場合や、インスタンスを生成できない場合は空を返す。
+     * アノテーションプロセッサを使用していない場合に{@link ClassNotFoundException}の生成コストがかからないよう、
+     * クラスファイルがリソースとして存在することを確認してからロードする。</p>
+     *
+     * @param componentType コンポーネントのクラス
+     * @return 生成されたファクトリ
+     */
+    private static Optional<MemberFactory> load(final Class<?> componentType) {
+        final ClassLoader classLoader = componentType.getClassLoader();
+        final String name = componentType.getName() + GENERATED_CLASS_SUFFIX;
+        if (classLoader == null
+                || classLoader.getResource(name.replace('.', '/') + ".class") == null) {
+            return Optional.empty();
+        }
+        try {
+            final Class<?> generated = Class.forName(name, true, classLoader);
+            if (MemberFactory.class.isAssignableFrom(generated) == false) {
+                return Optional.empty();
+            }
+            return Optional.of((MemberFactory) generated.getConstructor().newInstance());
+        } catch (final ReflectiveOperationException | LinkageError e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,6 +1,17 @@
 package nablarch.fw.dicontainer.annotation.auto;
 
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
@@ -23,6 +34,19 @@ public final class AnnotationAutoContainerFactory {
      * コンポーネントとみなすための条件
      */
     private final ComponentPredicate predicate;
+    /**
+     * コンポーネントのインデックスを使用するかどうか。
+     * コンポーネントとみなすための条件が{@link DefaultComponentPredicate}の場合のみ使用する
+     */
+    private final boolean useComponentIndex;
+    /**
+     * ディレクトリトラバーサルを並列に行うかどうか
+     */
+    private final boolean parallel;
+    /**
+     * 探した結果のキャッシュファイル。キャッシュを使用しない場合は{@literal null}
+     */
+    private final Path scanCacheFile;
 
     /**
      * インスタンスを生成する。
@@ -33,29 +57,380 @@ public final class AnnotationAutoContainerFactory {
      */
     public AnnotationAutoContainerFactory(final AnnotationContainerBuilder containerBuilder,
             final Iterable<TraversalConfig> traversalConfigs, final ComponentPredicate predicate) {
+        this(containerBuilder, traversalConfigs, predicate, false, false, null);
+    }
+
+    /**
+     * インスタンスを生成する。
+     * 
+     * @param containerBuilder DIコンテナのビルダー
+     * @param traversalConfigs ディレクトリトラバーサルの設定
+     * @param predicate コンポーネントとみなすための条件
+     * @param useComponentIndex コンポーネントのインデックスを使用する場合は{@literal true}
+     * @param parallel ディレクトリトラバーサルを並列に行う場合は{@literal true}
+     * @param scanCacheFile 探した結果のキャッシュファイル。キャッシュを使用しない場合は{@literal null}
+     */
+    private AnnotationAutoContainerFactory(final AnnotationContainerBuilder containerBuilder,
+            final Iterable<TraversalConfig> traversalConfigs, final ComponentPredicate predicate,
+            final boolean useComponentIndex, final boolean parallel, final Path scanCacheFile) {
         this.containerBuilder = Objects.requireNonNull(containerBuilder);
         this.traversalConfigs = Objects.requireNonNull(traversalConfigs);
         this.predicate = Objects.requireNonNull(predicate);
+        this.useComponentIndex = useComponentIndex
+                && predicate.getClass() == DefaultComponentPredicate.class;
+        this.parallel = parallel;
+        this.scanCacheFile = scanCacheFile;
     }
 
     /**
      * コンポーネントを自動登録してDIコンテナを構築する。
      * 
+     * <p>同じコード配置場所（ディレクトリまたはjarファイル）にある{@link TraversalConfig}は、
+     * まとめて1回のディレクトリトラバーサルで探す。</p>
+     * 
+     * <p>並列に行う場合も、コンポーネントは{@link TraversalConfig}の順、
+     * かつ直列に行う場合と同じ順序で登録する。</p>
+     * 
      * @return DIコンテナ
      */
     public Container create() {
-        for (final TraversalConfig traversalConfig : traversalConfigs) {
-            final ClassLoader classLoader = traversalConfig.getClass().getClassLoader();
-            final Class<?> baseClass = traversalConfig.getClass();
-            final ClassFilter classFilter = ClassFilter.valueOf(traversalConfig);
-            final ClassTraverser classTraverser = new ClassTraverser(classLoader, baseClass,
-                    classFilter);
-            classTraverser.traverse(clazz -> {
-                if (predicate.test(clazz)) {
-                    containerBuilder.register(clazz);
+        final ScanCache scanCache = scanCacheFile != null ? ScanCache.load(scanCacheFile) : null;
+        final ForkJoinPool pool = parallel
+                ? new ForkJoinPool(Runtime.getRuntime().availableProcessors())
+                : null;
+        try {
+            final List<TraversalConfig> configs = new ArrayList<>();
+            traversalConfigs.forEach(configs::add);
+
+            final List<Supplier<Scan>> lookups = new ArrayList<>();
+            for (final TraversalConfig traversalConfig : configs) {
+                lookups.add(() -> lookup(traversalConfig, scanCache));
+            }
+            final List<Scan> scans = new ArrayList<>(invoke(lookups, pool));
+
+            final Map<Object, List<Integer>> groups = new LinkedHashMap<>();
+            for (int i = 0; i < configs.size(); i++) {
+                if (scans.get(i).classes == null) {
+                    groups.computeIfAbsent(codeSourceKey(configs.get(i), i),
+                            key -> new ArrayList<>()).add(i);
+                }
+            }
+            final List<Supplier<List<List<Class<?>>>>> traversals = new ArrayList<>();
+            for (final List<Integer> group : groups.values()) {
+                final List<TraversalConfig> grouped = new ArrayList<>(group.size());
+                for (final int index : group) {
+                    grouped.add(configs.get(index));
+                }
+                traversals.add(() -> classTraverser(grouped).traverseEach(pool != null));
+            }
+            final List<List<List<Class<?>>>> found = invoke(traversals, pool);
+            int g = 0;
+            for (final List<Integer> group : groups.values()) {
+                final List<List<Class<?>>> classes = found.get(g++);
+                for (int j = 0; j < group.size(); j++) {
+                    final int index = group.get(j);
+                    scans.set(index, new Scan(classes.get(j), scans.get(index).cacheKey));
                 }
-            });
+            }
+
+            for (final Scan scan : scans) {
+                register(scan, scanCache);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdown();
+            }
+        }
+        if (scanCache != null) {
+            scanCache.save();
         }
         return containerBuilder.build();
     }
+
+    /**
+     * 処理を実行し、結果を処理と同じ順序で返す。
+     * 
+     * @param <T> 結果の型
+     * @param tasks 処理
+     * @param pool 並列に実行する場合のスレッドプール。直列に実行する場合は{@literal null}
+     * @return 結果
+     */
+    private static <T> List<T> invoke(final List<Supplier<T>> tasks, final ForkJoinPool pool) {
+        final List<T> results = new ArrayList<>(tasks.size());
+        if (pool == null) {
+            for (final Supplier<T> task : tasks) {
+                results.add(task.get());
+            }
+            return results;
+        }
+        final List<ForkJoinTask<T>> submitted = new ArrayList<>(tasks.size());
+        for (final Supplier<T> task : tasks) {
+            submitted.add(pool.submit(task::get));
+        }
+        for (final ForkJoinTask<T> task : submitted) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * キャッシュ、またはコンポーネントのインデックスからコンポーネントの候補となるクラスを探す。
+     * 
+     * <p>キャッシュを使用する場合、コード配置場所が変更されていなければキャッシュしたクラスだけを候補とする。</p>
+     * 
+     * @param traversalConfig ディレクトリトラバーサルの設定
+     * @param scanCache キャッシュ。使用しない場合は{@literal null}
+     * @return 探した結果。ディレクトリトラバーサルが必要な場合はクラスが{@literal null}
+     */
+    private Scan lookup(final TraversalConfig traversalConfig, final ScanCache scanCache) {
+        final Optional<ScanCache.Key> key = scanCache != null
+                ? scanCache.key(traversalConfig, predicate)
+                : Optional.empty();
+        if (key.isPresent()) {
+            final Optional<List<String>> classNames = scanCache.get(key.get());
+            if (classNames.isPresent()) {
+                final ClassLoader classLoader = traversalConfig.getClass().getClassLoader();
+                final List<Class<?>> classes = new ArrayList<>(classNames.get().size());
+                for (final String className : classNames.get()) {
+                    classes.add(ClassTraverser.forName(className, classLoader));
+                }
+                return new Scan(classes, null);
+            }
+        }
+        final List<Class<?>> classes = new ArrayList<>();
+        if (useComponentIndex && componentIndex(traversalConfig).traverse(classes::add)) {
+            return new Scan(classes, key.orElse(null));
+        }
+        return new Scan(null, key.orElse(null));
+    }
+
+    /**
+     * まとめてディレクトリトラバーサルを行う単位を識別するキーを取得する。
+     * 
+     * @param traversalConfig ディレクトリトラバーサルの設定
+     * @param index 設定の順序
+     * @return コード配置場所とクラスローダーの組。コード配置場所がない場合は設定ごとに異なる値
+     */
+    private static Object codeSourceKey(final TraversalConfig traversalConfig, final int index) {
+        final Class<?> baseClass = traversalConfig.getClass();
+        final CodeSource codeSource = baseClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return index;
+        }
+        return Arrays.asList(codeSource.getLocation().toExternalForm(),
+                baseClass.getClassLoader());
+    }
+
+    /**
+     * コンポーネントと判定したクラスを登録する。
+     * 
+     * @param scan 探した結果
+     * @param scanCache キャッシュ。使用しない場合は{@literal null}
+     */
+    private void register(final Scan scan, final ScanCache scanCache) {
+        final List<String> classNames = new ArrayList<>();
+        for (final Class<?> clazz : scan.classes) {
+            if (predicate.test(clazz)) {
+                containerBuilder.register(clazz);
+                classNames.add(clazz.getName());
+            }
+        }
+        if (scan.cacheKey != null) {
+            scanCache.put(scan.cacheKey, classNames);
+        }
+    }
+
+    /**
+     * コンポーネントのインデックスを生成する。
+     * 
+     * @param traversalConfig ディレクトリトラバーサルの設定
+     * @return コンポーネントのインデックス
+     */
+    private static ComponentIndex componentIndex(final TraversalConfig traversalConfig) {
+        return new ComponentIndex(traversalConfig.getClass().getClassLoader(),
+                traversalConfig.getClass(), ClassFilter.valueOf(traversalConfig));
+    }
+
+    /**
+     * 同じコード配置場所にある設定について、まとめてディレクトリトラバーサルを行うクラスを生成する。
+     * 
+     * @param traversalConfigs ディレクトリトラバーサルの設定
+     * @return ディレクトリトラバーサルを行うクラス
+     */
+    private ClassTraverser classTraverser(final List<TraversalConfig> traversalConfigs) {
+        final List<Class<?>> baseClasses = new ArrayList<>(traversalConfigs.size());
+        final List<ClassFilter> classFilters = new ArrayList<>(traversalConfigs.size());
+        for (final TraversalConfig traversalConfig : traversalConfigs) {
+            baseClasses.add(traversalConfig.getClass());
+            classFilters.add(ClassFilter.valueOf(traversalConfig));
+        }
+        return new ClassTraverser(traversalConfigs.get(0).getClass().getClassLoader(),
+                baseClasses, classFilters, predicate);
+    }
+
+    /**
+     * ビルダーを生成する。
+     * 
+     * @return ビルダー
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * ビルダー。
+     *
+     */
+    public static final class Builder {
+
+        /**
+         * DIコンテナのビルダー
+         */
+        private AnnotationContainerBuilder containerBuilder;
+        /**
+         * ディレクトリトラバーサルの設定
+         */
+        private Iterable<TraversalConfig> traversalConfigs;
+        /**
+         * コンポーネントとみなすための条件
+         */
+        private ComponentPredicate predicate = new DefaultComponentPredicate();
+        /**
+         * コンポーネントのインデックスを使用するかどうか
+         */
+        private boolean useComponentIndex;
+        /**
+         * ディレクトリトラバーサルを並列に行うかどうか
+         */
+        private boolean parallel;
+        /**
+         * 探した結果のキャッシュファイル
+         */
+        private Path scanCacheFile;
+
+        /**
+         * インスタンスを生成する。
+         */
+        private Builder() {
+        }
+
+        /**
+         * DIコンテナのビルダーを設定する。
+         * 
+         * @param containerBuilder DIコンテナのビルダー
+         * @return このビルダー自身
+         */
+        public Builder containerBuilder(final AnnotationContainerBuilder containerBuilder) {
+            this.containerBuilder = containerBuilder;
+            return this;
+        }
+
+        /**
+         * ディレクトリトラバーサルの設定を設定する。
+         * 
+         * @param traversalConfigs ディレクトリトラバーサルの設定
+         * @return このビルダー自身
+         */
+        public Builder traversalConfigs(final Iterable<TraversalConfig> traversalConfigs) {
+            this.traversalConfigs = traversalConfigs;
+            return this;
+        }
+
+        /**
+         * コンポーネントとみなすための条件を設定する。
+         * 
+         * @param predicate コンポーネントとみなすための条件
+         * @return このビルダー自身
+         */
+        public Builder predicate(final ComponentPredicate predicate) {
+            this.predicate = predicate;
+            return this;
+        }
+
+        /**
+         * コンポーネントのインデックスを使用するかどうかを設定する。
+         * 
+         * <p>使用する場合、{@link TraversalConfig}と同じ場所（ディレクトリまたはjarファイル）に
+         * {@link ComponentIndex}が存在すれば、ディレクトリトラバーサルを行わずにインデックスに記載されたクラスだけを対象とする。
+         * インデックスが存在しない場合はディレクトリトラバーサルを行う。</p>
+         * 
+         * <p>インデックスにはスコープまたは限定子のアノテーションが付与されたクラスしか記載されないため、
+         * コンポーネントとみなすための条件が{@link DefaultComponentPredicate}でない場合、
+         * インデックスは使用せずにディレクトリトラバーサルを行う。</p>
+         * 
+         * @param useComponentIndex コンポーネントのインデックスを使用する場合は{@literal true}
+         * @return このビルダー自身
+         */
+        public Builder useComponentIndex(final boolean useComponentIndex) {
+            this.useComponentIndex = useComponentIndex;
+            return this;
+        }
+
+        /**
+         * ディレクトリトラバーサルを並列に行うかどうかを設定する。
+         * 
+         * <p>並列に行う場合、利用可能なプロセッサ数のスレッドで
+         * {@link TraversalConfig}ごと、かつサブディレクトリごとにクラスを探してロードする。
+         * {@link ComponentPredicate#test(Class)}とコンポーネントの登録は呼び出し元のスレッドで行う。</p>
+         * 
+         * @param parallel 並列に行う場合は{@literal true}
+         * @return このビルダー自身
+         */
+        public Builder parallel(final boolean parallel) {
+            this.parallel = parallel;
+            return this;
+        }
+
+        /**
+         * 探した結果のキャッシュファイルを設定する。
+         * 
+         * <p>設定した場合、コード配置場所（ディレクトリまたはjarファイル）ごとにコンポーネントと判定したクラス名を
+         * {@link ScanCache}に保存し、次回以降はコード配置場所が変更されていなければ
+         * ディレクトリトラバーサルを行わずに保存したクラスを登録する。</p>
+         * 
+         * @param scanCacheFile キャッシュファイル。キャッシュを使用しない場合は{@literal null}
+         * @return このビルダー自身
+         */
+        public Builder scanCacheFile(final Path scanCacheFile) {
+            this.scanCacheFile = scanCacheFile;
+            return this;
+        }
+
+        /**
+         * ファクトリを構築する。
+         * 
+         * @return ファクトリ
+         */
+        public AnnotationAutoContainerFactory build() {
+            return new AnnotationAutoContainerFactory(containerBuilder, traversalConfigs,
+                    predicate, useComponentIndex, parallel, scanCacheFile);
+        }
+    }
+
+    /**
+     * {@link TraversalConfig}ごとに探した結果。
+     *
+     */
+    private static final class Scan {
+
+        /**
+         * コンポーネントの候補となるクラス。ディレクトリトラバーサルが必要な場合は{@literal null}
+         */
+        private final List<Class<?>> classes;
+        /**
+         * 結果をキャッシュする場合のキー。キャッシュしない場合は{@literal null}
+         */
+        private final ScanCache.Key cacheKey;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param classes コンポーネントの候補となるクラス
+         * @param cacheKey 結果をキャッシュする場合のキー
+         */
+        Scan(final List<Class<?>> classes, final ScanCache.Key cacheKey) {
+            this.classes = classes;
+            this.cacheKey = cacheKey;
+        }
+    }
 }
@@ -0,0 +1,326 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * クラスをロードせずにクラスファイルから読み取った情報。
+ *
+ * <p>コンスタントプールとクラスの{@code RuntimeVisibleAnnotations}属性だけを解析し、
+ * クラス名、スーパークラス名、クラスに付与されたアノテーションの型名を保持する。
+ * フィールドやメソッドの属性は読み飛ばす。</p>
+ *
+ */
+final class ClassFile {
+
+    /**
+     * クラスファイルのマジックナンバー
+     */
+    private static final int MAGIC = 0xCAFEBABE;
+    /**
+     * 実行時に参照可能なアノテーションの属性名
+     */
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * クラス名
+     */
+    private final String className;
+    /**
+     * スーパークラス名。存在しない場合は{@literal null}
+     */
+    private final String superClassName;
+    /**
+     * クラスに付与されたアノテーションの型名
+     */
+    private final List<String> annotationTypeNames;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param className クラス名
+     * @param superClassName スーパークラス名
+     * @param annotationTypeNames クラスに付与されたアノテーションの型名
+     */
+    private ClassFile(final String className, final String superClassName,
+            final List<String> annotationTypeNames) {
+        this.className = className;
+        this.superClassName = superClassName;
+        this.annotationTypeNames = annotationTypeNames;
+    }
+
+    /**
+     * クラス名を取得する。
+     *
+     * @return クラスの完全修飾名（バイナリ名）
+     */
+    String getClassName() {
+        return className;
+    }
+
+    /**
+     * スーパークラス名を取得する。
+     *
+     * @return スーパークラスの完全修飾名（バイナリ名）。{@link Object}やインターフェースの場合は{@literal null}
+     */
+    String getSuperClassName() {
+        return superClassName;
+    }
+
+    /**
+     * クラスに付与された、実行時に参照可能なアノテーションの型名を取得する。
+     *
+     * @return アノテーションの型の完全修飾名（バイナリ名）
+     */
+    List<String> getAnnotationTypeNames() {
+        return annotationTypeNames;
+    }
+
+    /**
+     * クラスローダーからクラスファイルを読み込む。
+     *
+     * @param classLoader クラスローダー
+     * @param className クラスの完全修飾名（バイナリ名）
+     * @return クラスファイルの情報。クラスファイルが見つからない場合は空
+     * @throws IOException 読み込みに失敗した場合
+     */
+    static Optional<ClassFile> read(final ClassLoader classLoader, final String className)
+            throws IOException {
+        final String resourceName = className.replace('.', '/') + ".class";
+        final InputStream in = classLoader.getResourceAsStream(resourceName);
+        if (in == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(parse(in));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * クラスファイルを解析する。
+     *
+     * <p>ストリームはクローズしない。</p>
+     *
+     * @param in クラスファイルのストリーム
+     * @return クラスファイルの情報
+     * @throws IOException 読み込みに失敗した場合や、クラスファイルの形式が不正な場合
+     */
+    static ClassFile parse(final InputStream in) throws IOException {
+        Objects.requireNonNull(in);
+        final DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a class file.");
+        }
+        // minor_version, major_version
+        skip(data, 4);
+
+        final int constantPoolCount = data.readUnsignedShort();
+        final String[] utf8 = new String[constantPoolCount];
+        final int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = data.readUnsignedByte();
+            switch (tag) {
+            case 1: // Utf8
+                utf8[i] = data.readUTF();
+                break;
+            case 7: // Class
+                classNameIndexes[i] = data.readUnsignedShort();
+                break;
+            case 8: // String
+            case 16: // MethodType
+            case 19: // Module
+            case 20: // Package
+                skip(data, 2);
+                break;
+            case 15: // MethodHandle
+                skip(data, 3);
+                break;
+            case 3: // Integer
+            case 4: // Float
+            case 9: // Fieldref
+            case 10: // Methodref
+            case 11: // InterfaceMethodref
+            case 12: // NameAndType
+            case 17: // Dynamic
+            case 18: // InvokeDynamic
+                skip(data, 4);
+                break;
+            case 5: // Long
+            case 6: // Double
+                skip(data, 8);
+                // 8バイトの定数はコンスタントプールのエントリを2つ使用する
+                i++;
+                break;
+            default:
+                throw new IOException("Unknown constant pool tag [" + tag + "].");
+            }
+        }
+
+        // access_flags
+        skip(data, 2);
+        final String className = className(utf8, classNameIndexes, data.readUnsignedShort());
+        final String superClassName = className(utf8, classNameIndexes,
+                data.readUnsignedShort());
+        final int interfacesCount = data.readUnsignedShort();
+        skip(data, interfacesCount * 2);
+        skipMembers(data);
+        skipMembers(data);
+
+        List<String> annotationTypeNames = Collections.emptyList();
+        final int attributesCount = data.readUnsignedShort();
+        for (int i = 0; i < attributesCount; i++) {
+            final String name = utf8[data.readUnsignedShort()];
+            final long length = data.readInt() & 0xFFFFFFFFL;
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(name)) {
+                annotationTypeNames = annotationTypeNames(data, utf8);
+            } else {
+                skip(data, length);
+            }
+        }
+        return new ClassFile(className, superClassName, annotationTypeNames);
+    }
+
+    /**
+     * {@code RuntimeVisibleAnnotations}属性からアノテーションの型名を読み取る。
+     *
+     * @param data 属性の値の先頭を指すストリーム
+     * @param utf8 コンスタントプールの文字列
+     * @return アノテーションの型名
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static List<String> annotationTypeNames(final DataInputStream data,
+            final String[] utf8) throws IOException {
+        final int count = data.readUnsignedShort();
+        final List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String descriptor = utf8[data.readUnsignedShort()];
+            skipElementValuePairs(data);
+            if (descriptor != null && descriptor.length() > 2 && descriptor.charAt(0) == 'L') {
+                names.add(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'));
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * アノテーションの要素と値の組を読み飛ばす。
+     *
+     * @param data ストリーム
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void skipElementValuePairs(final DataInputStream data) throws IOException {
+        final int pairs = data.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            // element_name_index
+            skip(data, 2);
+            skipElementValue(data);
+        }
+    }
+
+    /**
+     * アノテーションの要素の値を読み飛ばす。
+     *
+     * @param data ストリーム
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void skipElementValue(final DataInputStream data) throws IOException {
+        final int tag = data.readUnsignedByte();
+        switch (tag) {
+        case 'B':
+        case 'C':
+        case 'D':
+        case 'F':
+        case 'I':
+        case 'J':
+        case 'S':
+        case 'Z':
+        case 's':
+        case 'c':
+            skip(data, 2);
+            break;
+        case 'e':
+            skip(data, 4);
+            break;
+        case '@':
+            skip(data, 2);
+            skipElementValuePairs(data);
+            break;
+        case '[':
+            final int count = data.readUnsignedShort();
+            for (int i = 0; i < count; i++) {
+                skipElementValue(data);
+            }
+            break;
+        default:
+            throw new IOException("Unknown element value tag [" + (char) tag + "].");
+        }
+    }
+
+    /**
+     * フィールドまたはメソッドの定義を読み飛ばす。
+     *
+     * @param data ストリーム
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void skipMembers(final DataInputStream data) throws IOException {
+        final int count = data.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            // access_flags, name_index, descriptor_index
+            skip(data, 6);
+            final int attributesCount = data.readUnsignedShort();
+            for (int j = 0; j < attributesCount; j++) {
+                // attribute_name_index
+                skip(data, 2);
+                skip(data, data.readInt() & 0xFFFFFFFFL);
+            }
+        }
+    }
+
+    /**
+     * コンスタントプールのクラス参照からクラス名を取得する。
+     *
+     * @param utf8 コンスタントプールの文字列
+     * @param classNameIndexes クラス参照が指す文字列のインデックス
+     * @param index クラス参照のインデックス
+     * @return クラス名。インデックスが{@literal 0}の場合は{@literal null}
+     */
+    private static String className(final String[] utf8, final int[] classNameIndexes,
+            final int index) {
+        if (index == 0) {
+            return null;
+        }
+        return utf8[classNameIndexes[index]].replace('/', '.');
+    }
+
+    /**
+     * 指定されたバイト数を読み飛ばす。
+     *
+     * @param data ストリーム
+     * @param length バイト数
+     * @throws IOException 読み込みに失敗した場合
+     */
+    private static void skip(final DataInputStream data, final long length) throws IOException {
+        long remaining = length;
+        while (remaining > 0) {
+            final long skipped = data.skip(remaining);
+            if (skipped <= 0) {
+                if (data.read() < 0) {
+                    throw new EOFException();
+                }
+                remaining--;
+            } else {
+                remaining -= skipped;
+            }
+        }
+    }
+}
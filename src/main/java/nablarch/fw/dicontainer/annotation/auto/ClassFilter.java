@@ -5,6 +5,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 /**
@@ -13,6 +14,10 @@ import java.util.stream.Collectors;
  */
 public final class ClassFilter {
 
+    /**
+     * 後方参照を表すパターン
+     */
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
     /**
      * 含めるクラスのパターン
      */
@@ -92,10 +97,81 @@ public final class ClassFilter {
         return new ClassFilter(includes, excludes);
     }
 
-    /** {@link Pattern}のファーストクラスコレクション */
+    /**
+     * 指定されたパッケージに、含めるクラスが存在し得るかどうか判定する。
+     * 
+     * <p>含めるパターンの先頭のリテラル部分（例えば{@code ^aaa\.bbb\..*$}の{@code aaa.bbb.}）と
+     * パッケージ名を比較し、含めるクラスが存在し得ないパッケージのディレクトリやjarファイルのエントリを
+     * 読み飛ばすために使用する。判定できない場合は真を返す。</p>
+     * 
+     * @param packageName パッケージ名。無名パッケージの場合は空文字
+     * @return 含めるクラスが存在し得る場合、真
+     */
+    public boolean mayIncludePackage(final String packageName) {
+        if (includes.isEmpty()) {
+            return true;
+        }
+        final String prefix = packageName.isEmpty() ? "" : packageName + '.';
+        for (final String literalPrefix : includes.literalPrefixes) {
+            if (literalPrefix.startsWith(prefix) || prefix.startsWith(literalPrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * パターンの先頭のリテラル部分を取得する。
+     * 
+     * <p>パターンにマッチする文字列は、必ずこの文字列で始まる。
+     * 判定が難しい構文（選択など）を含む場合は空文字を返す。</p>
+     * 
+     * @param regex パターン
+     * @return 先頭のリテラル部分
+     */
+    static String literalPrefix(final String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        final StringBuilder prefix = new StringBuilder();
+        int i = regex.startsWith("^") ? 1 : 0;
+        while (i < regex.length()) {
+            final char c = regex.charAt(i);
+            final int next;
+            if (c == '\\' && i + 1 < regex.length()
+                    && Character.isLetterOrDigit(regex.charAt(i + 1)) == false) {
+                prefix.append(regex.charAt(i + 1));
+                next = i + 2;
+            } else if (Character.isLetterOrDigit(c) || c == '_') {
+                prefix.append(c);
+                next = i + 1;
+            } else {
+                break;
+            }
+            if (next < regex.length() && "*+?{".indexOf(regex.charAt(next)) >= 0) {
+                // 量指定子が付いた文字は省略され得る
+                prefix.setLength(prefix.length() - 1);
+                break;
+            }
+            i = next;
+        }
+        return prefix.toString();
+    }
+
+    /**
+     * {@link Pattern}のファーストクラスコレクション。
+     * 
+     * <p>パターンは1つの選択（{@code (?:p1)|(?:p2)|...}）にまとめてコンパイルし、
+     * パターンの数によらず1回のマッチングで判定する。
+     * 後方参照を含むなどまとめられないパターンがある場合は、パターンごとに判定する。</p>
+     */
     private static final class Patterns {
         /** パターン */
         private final Set<Pattern> patterns;
+        /** まとめてコンパイルしたパターン。まとめられない場合は{@literal null} */
+        private final Pattern combined;
+        /** パターンごとの先頭のリテラル部分 */
+        private final Set<String> literalPrefixes;
 
         /**
          * コンストラクタ。
@@ -103,6 +179,9 @@ public final class ClassFilter {
          */
         private Patterns(final Set<Pattern> patterns) {
             this.patterns = Objects.requireNonNull(patterns);
+            this.combined = combine(patterns);
+            this.literalPrefixes = patterns.stream().map(pattern -> literalPrefix(pattern.pattern()))
+                    .collect(Collectors.toSet());
         }
 
         /**
@@ -119,6 +198,9 @@ public final class ClassFilter {
          * @return マッチする場合、真
          */
         public boolean matches(final String className) {
+            if (combined != null) {
+                return combined.matcher(className).matches();
+            }
             return patterns.stream().map(pattern -> pattern.matcher(className))
                     .anyMatch(Matcher::matches);
         }
@@ -140,5 +222,30 @@ public final class ClassFilter {
         public static Patterns empty() {
             return new Patterns(Collections.emptySet());
         }
+
+        /**
+         * パターンを1つの選択にまとめてコンパイルする。
+         * @param patterns パターン
+         * @return まとめたパターン。パターンが空、またはまとめられない場合は{@literal null}
+         */
+        private static Pattern combine(final Set<Pattern> patterns) {
+            if (patterns.isEmpty()) {
+                return null;
+            }
+            for (final Pattern pattern : patterns) {
+                // 後方参照はグループの番号や名前がずれるため、まとめない
+                if (BACK_REFERENCE.matcher(pattern.pattern()).find() || pattern.flags() != 0) {
+                    return null;
+                }
+            }
+            final String alternation = patterns.stream()
+                    .map(pattern -> "(?:" + pattern.pattern() + ")")
+                    .collect(Collectors.joining("|"));
+            try {
+                return Pattern.compile(alternation);
+            } catch (final PatternSyntaxException e) {
+                return null;
+            }
+        }
     }
 }
@@ -1,17 +1,26 @@
 package nablarch.fw.dicontainer.annotation.auto;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.Consumer;
 import java.util.jar.JarEntry;
-import java.util.jar.JarInputStream;
-import java.util.stream.Stream;
+import java.util.jar.JarFile;
 
 import nablarch.core.log.Logger;
 import nablarch.core.log.LoggerManager;
@@ -40,9 +49,17 @@ public class ClassTraverser {
      */
     private final Class<?> baseClass;
     /**
-     * フィルター
+     * 見つけたクラスを振り分ける対象
      */
-    private final ClassFilter classFilter;
+    private final List<Target> targets;
+    /**
+     * すべての対象の起点パッケージに共通するパッケージ
+     */
+    private final String rootPackage;
+    /**
+     * クラスをロードする前にクラスファイルで判定する条件。判定しない場合は{@literal null}
+     */
+    private final DefaultComponentPredicate preFilter;
 
     /**
      * インスタンスを生成する。
@@ -53,9 +70,57 @@ public class ClassTraverser {
      */
     public ClassTraverser(final ClassLoader classLoader, final Class<?> baseClass,
             final ClassFilter classFilter) {
+        this(classLoader, Collections.singletonList(baseClass),
+                Collections.singletonList(classFilter), null);
+    }
+
+    /**
+     * クラスファイルによる事前判定を行うインスタンスを生成する。
+     * 
+     * <p>述語が{@link DefaultComponentPredicate}の場合、クラスファイルに記録されたアノテーションから
+     * コンポーネントの候補とならないと判定したクラスはロードしない。
+     * それ以外の述語の場合は、クラスファイルを読まずにすべてのクラスをロードする。</p>
+     * 
+     * @param classLoader 見つけたクラスをロードするためのクラスローダー
+     * @param baseClass ディレクトリトラバーサルの起点となるクラス
+     * @param classFilter フィルター
+     * @param predicate コンポーネントとみなすための条件
+     */
+    public ClassTraverser(final ClassLoader classLoader, final Class<?> baseClass,
+            final ClassFilter classFilter, final ComponentPredicate predicate) {
+        this(classLoader, Collections.singletonList(baseClass),
+                Collections.singletonList(classFilter), Objects.requireNonNull(predicate));
+    }
+
+    /**
+     * 同じコード配置場所にある複数の起点クラスについて、1回のトラバーサルで見つけたクラスを振り分けるインスタンスを生成する。
+     * 
+     * <p>起点クラスとフィルターは同じ順序で対応させる。
+     * すべての起点クラスは同じ{@link CodeSource}に配置されていること。</p>
+     * 
+     * @param classLoader 見つけたクラスをロードするためのクラスローダー
+     * @param baseClasses ディレクトリトラバーサルの起点となるクラス
+     * @param classFilters 起点クラスごとのフィルター
+     * @param predicate コンポーネントとみなすための条件。事前判定を行わない場合は{@literal null}
+     */
+    ClassTraverser(final ClassLoader classLoader, final List<Class<?>> baseClasses,
+            final List<ClassFilter> classFilters, final ComponentPredicate predicate) {
+        if (baseClasses.isEmpty() || baseClasses.size() != classFilters.size()) {
+            throw new IllegalArgumentException("baseClasses and classFilters must have same size.");
+        }
         this.classLoader = Objects.requireNonNull(classLoader);
-        this.baseClass = Objects.requireNonNull(baseClass);
-        this.classFilter = Objects.requireNonNull(classFilter);
+        this.baseClass = Objects.requireNonNull(baseClasses.get(0));
+        final List<Target> targets = new ArrayList<>(baseClasses.size());
+        for (int i = 0; i < baseClasses.size(); i++) {
+            final Package p = baseClasses.get(i).getPackage();
+            targets.add(new Target(p == null ? "" : p.getName(),
+                    Objects.requireNonNull(classFilters.get(i))));
+        }
+        this.targets = targets;
+        this.rootPackage = commonPackage(targets);
+        this.preFilter = predicate instanceof DefaultComponentPredicate
+                ? ((DefaultComponentPredicate) predicate).forTraversal()
+                : null;
     }
 
     /**
@@ -77,6 +142,35 @@ public class ClassTraverser {
         }
     }
 
+    /**
+     * ディレクトリトラバーサルを行い、見つかったクラスを起点クラスごとに振り分ける。
+     * 
+     * @param inPool {@link ForkJoinPool}のスレッドで並列に行う場合は{@literal true}
+     * @return 起点クラスごとの見つかったクラス。起点クラスと同じ順序で並び、
+     *          それぞれ{@link #traverse(Consumer)}で処理を適用する順序と同じ順序で並ぶ
+     */
+    List<List<Class<?>>> traverseEach(final boolean inPool) {
+        final List<List<Class<?>>> classes = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            classes.add(new ArrayList<>());
+        }
+        final CodeSource codeSource = baseClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            LOGGER.logDebug("Can not traverse configured by [" + baseClass.getName() + "]");
+            return classes;
+        }
+        try {
+            for (final Found found : collect(codeSource, inPool)) {
+                for (final int target : found.targets) {
+                    classes.get(target).add(found.clazz);
+                }
+            }
+        } catch (final URISyntaxException | IOException e) {
+            throw new ClassTraversingException(e);
+        }
+        return classes;
+    }
+
     /**
      * ディレクトリトラバーサルを行う。
      * @param consumer 見つかったクラスに適用する処理
@@ -85,87 +179,251 @@ public class ClassTraverser {
      * @throws IOException 予期しない入出力例外
      */
     void traverse(Consumer<Class<?>> consumer, CodeSource codeSource) throws URISyntaxException, IOException {
-        final URI location = codeSource.getLocation().toURI();
-
-        final Path fileOrDir = Paths.get(location);
-        final String baseClassPackage = getBaseClassPackage();
-        LOGGER.logInfo("base class package = [" + baseClassPackage + "]");
-        if (Files.isDirectory(fileOrDir)) {
-            traverseDirectory(consumer, fileOrDir, baseClassPackage);
-        } else {
-            traverseJarFile(consumer, fileOrDir, baseClassPackage);
+        for (final Found found : collect(codeSource, false)) {
+            consumer.accept(found.clazz);
         }
     }
 
     /**
-     * ディレクトリトラバーサルを行う。
-     *
-     * @param consumer 見つかったクラスに適用する処理
-     * @param directory 対象ディレクトリ
+     * ディレクトリトラバーサルを行い、見つかったクラスを収集する。
+     * 
+     * <p>起点クラスのパッケージ（複数の場合は共通するパッケージ）に対応するディレクトリから走査を開始し、
+     * 他のパッケージのディレクトリは走査しない。
+     * フィルターが含めるクラスが存在し得ないパッケージのディレクトリも走査しない。
+     * jarファイルの場合、エントリ名はjarファイルのセントラルディレクトリから読み込み、
+     * クラスファイルの内容はフィルターを通過したエントリについてのみ読み込む。</p>
+     * 
+     * <p>並列に行う場合は、{@link ForkJoinPool}のスレッドから呼び出すこと。</p>
+     * 
+     * @param codeSource {@link CodeSource}
+     * @param parallel サブディレクトリ、またはjarファイルのエントリの範囲ごとにタスクを分割して並列に行う場合は{@literal true}
+     * @return 見つかったクラス。並列に行うかどうかによらず同じ順序で並ぶ
+     * @throws URISyntaxException {@link CodeSource}から{@link URI}への変換が失敗した場合
+     * @throws IOException 予期しない入出力例外
      */
-    private void traverseDirectory(final Consumer<Class<?>> consumer, final Path directory, String baseClassPackage)
-            throws IOException {
+    private List<Found> collect(final CodeSource codeSource, final boolean parallel)
+            throws URISyntaxException, IOException {
+        final Path fileOrDir = Paths.get(codeSource.getLocation().toURI());
+        logTargets();
+        if (Files.isDirectory(fileOrDir) == false) {
+            return collectJarFile(fileOrDir, parallel);
+        }
+        final Path packageDirectory = packageDirectory(fileOrDir, rootPackage);
+        if (Files.isDirectory(packageDirectory, LinkOption.NOFOLLOW_LINKS) == false
+                || mayVisit(rootPackage) == false) {
+            return Collections.emptyList();
+        }
+        return new DirectoryTask(fileOrDir, packageDirectory, parallel).invoke();
+    }
 
-        Stream<Path> stream = Files.walk(directory);
-        try {
-            stream.filter(Files::isRegularFile)
-                    .filter(file -> file.getFileName().toString().endsWith(CLASSFILE_SUFFIX))
-                    .forEach(file -> {
-                        loadClass(consumer, directory.relativize(file).toString(),
-                                baseClassPackage);
-                    });
-        } finally {
-            stream.close();
+    /**
+     * 起点クラスのパッケージをログに出力する。
+     */
+    private void logTargets() {
+        for (final Target target : targets) {
+            LOGGER.logInfo("base class package = [" + target.basePackage + "]");
         }
     }
 
     /**
      * jarファイルのトラバースを行う。
-     * @param consumer 見つかったクラスに適用する処理
+     * 
      * @param jarFile 対象jarファイル
+     * @param parallel エントリの範囲ごとにタスクを分割して並列に行う場合は{@literal true}
+     * @return 見つかったクラス
      * @throws IOException 予期しない入出力例外
      */
-    private void traverseJarFile(final Consumer<Class<?>> consumer, final Path jarFile, String baseClassPackage)
+    private List<Found> collectJarFile(final Path jarFile, final boolean parallel)
             throws IOException {
 
-        JarInputStream in = new JarInputStream(Files.newInputStream(jarFile));
-        try {
-            JarEntry entry = null;
-            while (null != (entry = in.getNextJarEntry())) {
-                if (entry.isDirectory() == false && entry.getName().endsWith(CLASSFILE_SUFFIX)) {
-                    loadClass(consumer, entry.getName(), baseClassPackage);
+        final JarEntrySelector selector = new JarEntrySelector();
+        try (JarFile jar = new JarFile(jarFile.toFile(), false)) {
+            final List<JarEntry> classEntries = new ArrayList<>();
+            final Enumeration<JarEntry> entries = jar.entries();
+            while (entries.hasMoreElements()) {
+                final JarEntry entry = entries.nextElement();
+                if (selector.select(entry)) {
+                    classEntries.add(entry);
                 }
             }
-        } finally {
-            in.close();
+            return new JarEntriesTask(jar, classEntries, 0, classEntries.size(), parallel)
+                    .invoke();
         }
     }
 
     /**
-     * 起点クラスのパッケージ名を取得する。
+     * ディレクトリに対応するパッケージ名を取得する。
+     * 
+     * @param root コード配置場所のディレクトリ
+     * @param directory ディレクトリ
      * @return パッケージ名
      */
-    private String getBaseClassPackage() {
-        Package p = baseClass.getPackage();
-        return p == null ? "" : p.getName();
+    private static String packageName(final Path root, final Path directory) {
+        return root.relativize(directory).toString()
+                .replace(root.getFileSystem().getSeparator(), ".");
+    }
+
+    /**
+     * パッケージに対応するディレクトリを取得する。
+     * 
+     * @param root コード配置場所のディレクトリ
+     * @param packageName パッケージ名
+     * @return パッケージに対応するディレクトリ
+     */
+    private static Path packageDirectory(final Path root, final String packageName) {
+        if (packageName.isEmpty()) {
+            return root;
+        }
+        return root.resolve(packageName.replace(".", root.getFileSystem().getSeparator()));
+    }
+
+    /**
+     * すべての対象の起点パッケージに共通するパッケージを取得する。
+     * 
+     * @param targets 対象
+     * @return 共通するパッケージ。共通するパッケージがない場合は空文字
+     */
+    private static String commonPackage(final List<Target> targets) {
+        String common = targets.get(0).basePackage;
+        for (final Target target : targets) {
+            while (isWithin(target.basePackage, common) == false) {
+                final int index = common.lastIndexOf('.');
+                common = index < 0 ? "" : common.substring(0, index);
+            }
+        }
+        return common;
+    }
+
+    /**
+     * パッケージが、別のパッケージ自身またはその配下であるかどうか判定する。
+     * 
+     * @param packageName パッケージ名
+     * @param ancestor 別のパッケージ名。空文字の場合はすべてのパッケージを配下とみなす
+     * @return 別のパッケージ自身またはその配下である場合、真
+     */
+    private static boolean isWithin(final String packageName, final String ancestor) {
+        return ancestor.isEmpty() || packageName.equals(ancestor)
+                || packageName.startsWith(ancestor + '.');
+    }
+
+    /**
+     * クラスがパッケージ配下にあるかどうか判定する。
+     * 
+     * <p>名前の先頭が一致するだけの別のパッケージ（{@code a.b}に対する{@code a.bc}）にあるクラスは配下とみなさない。</p>
+     * 
+     * @param className クラス名
+     * @param packageName パッケージ名。空文字の場合はすべてのクラスを配下とみなす
+     * @return パッケージ配下にある場合、真
+     */
+    static boolean isInPackage(final String className, final String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName + '.');
+    }
+
+    /**
+     * パッケージのディレクトリを走査する必要があるかどうか判定する。
+     * 
+     * @param packageName パッケージ名
+     * @return いずれかの対象のクラスが配下に存在し得る場合、真
+     */
+    private boolean mayVisit(final String packageName) {
+        for (final Target target : targets) {
+            if (target.mayVisit(packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * パッケージに、いずれかの対象のクラスが直接存在し得るかどうか判定する。
+     * 
+     * @param packageName パッケージ名
+     * @return 存在し得る場合、真
+     */
+    private boolean mayContainClasses(final String packageName) {
+        for (final Target target : targets) {
+            if (target.contains(packageName) && target.classFilter.mayIncludePackage(packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * jarファイルのエントリからクラスファイルを読み込む処理を生成する。
+     * 
+     * @param jar jarファイル
+     * @param entry エントリ
+     * @return クラスファイルを読み込む処理
+     */
+    private static ClassFileReader jarEntryReader(final JarFile jar, final JarEntry entry) {
+        return () -> {
+            try (InputStream in = jar.getInputStream(entry)) {
+                return ClassFile.parse(in);
+            }
+        };
     }
 
     /**
      * クラスをロードする。
      *
+     * <p>クラスは、起点クラスのパッケージ配下にあり、フィルターを通過した対象に振り分ける。</p>
+     *
      * @param consumer 見つかったクラスに適用する処理
      * @param classFileName クラスファイル名
-     * @param baseClassPackage 起点クラスのパッケージ
+     * @param classFileReader クラスファイルを読み込む処理
      */
-    private void loadClass(final Consumer<Class<?>> consumer, final String classFileName,
-            final String baseClassPackage) {
+    private void loadClass(final Consumer<Found> consumer, final String classFileName,
+            final ClassFileReader classFileReader) {
 
         final String className = classFileName.replace('/', '.').replace('\\', '.').substring(0,
                 classFileName.length() - CLASSFILE_SUFFIX.length());
-        if (className.startsWith(baseClassPackage) && classFilter.select(className)) {
+        final int[] selected = select(className);
+        if (selected.length > 0 && mayBeComponent(className, classFileReader)) {
             final Class<?> clazz = forName(className, classLoader);
-            consumer.accept(clazz);
+            consumer.accept(new Found(clazz, selected));
+        }
+    }
+
+    /**
+     * クラスを振り分ける対象を選択する。
+     *
+     * @param className クラス名
+     * @return 対象のインデックス
+     */
+    private int[] select(final String className) {
+        int[] selected = new int[0];
+        for (int i = 0; i < targets.size(); i++) {
+            final Target target = targets.get(i);
+            if (target.containsClass(className) && target.classFilter.select(className)) {
+                selected = Arrays.copyOf(selected, selected.length + 1);
+                selected[selected.length - 1] = i;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * クラスファイルの内容から、クラスをロードする必要があるかどうか判定する。
+     *
+     * <p>クラスファイルが解析できない場合は、ロードして判定するため真を返す。</p>
+     *
+     * @param className クラス名
+     * @param classFileReader クラスファイルを読み込む処理
+     * @return クラスをロードする必要がある場合、真
+     */
+    private boolean mayBeComponent(final String className, final ClassFileReader classFileReader) {
+        if (preFilter == null) {
+            return true;
         }
+        final ClassFile classFile;
+        try {
+            classFile = classFileReader.read();
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.logDebug("Could not parse class file of [" + className + "]: " + e);
+            return true;
+        }
+        return preFilter.mayBeComponent(classFile, classLoader);
     }
 
     /**
@@ -181,4 +439,300 @@ public class ClassTraverser {
             throw new ClassTraversingException(e);
         }
     }
+
+    /**
+     * 1つのディレクトリを走査し、サブディレクトリを走査するタスク。
+     * 
+     * <p>結果は{@link Files#walk(Path, java.nio.file.FileVisitOption...)}と同じく、
+     * ディレクトリの中身をそのディレクトリが現れた位置に展開した順序で並ぶ。</p>
+     */
+    private final class DirectoryTask extends RecursiveTask<List<Found>> {
+
+        /**
+         * シリアルバージョンUID
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * トラバーサルの起点となるディレクトリ
+         */
+        private final Path root;
+        /**
+         * 走査するディレクトリ
+         */
+        private final Path directory;
+        /**
+         * サブディレクトリを並列に走査する場合は{@literal true}
+         */
+        private final boolean parallel;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param root トラバーサルの起点となるディレクトリ
+         * @param directory 走査するディレクトリ
+         * @param parallel サブディレクトリを並列に走査する場合は{@literal true}
+         */
+        DirectoryTask(final Path root, final Path directory, final boolean parallel) {
+            this.root = root;
+            this.directory = directory;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected List<Found> compute() {
+            // 見つかったクラスと、サブディレクトリのタスクを出現順に保持する
+            final List<Object> results = new ArrayList<>();
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory)) {
+                for (final Path entry : entries) {
+                    if (Files.isDirectory(entry, LinkOption.NOFOLLOW_LINKS)) {
+                        if (mayVisit(packageName(root, entry)) == false) {
+                            continue;
+                        }
+                        final DirectoryTask task = new DirectoryTask(root, entry, parallel);
+                        if (parallel) {
+                            task.fork();
+                            results.add(task);
+                        } else {
+                            results.addAll(task.compute());
+                        }
+                    } else if (Files.isRegularFile(entry)
+                            && entry.getFileName().toString().endsWith(CLASSFILE_SUFFIX)) {
+                        loadClass(results::add, root.relativize(entry).toString(), () -> {
+                            try (InputStream in = Files.newInputStream(entry)) {
+                                return ClassFile.parse(in);
+                            }
+                        });
+                    }
+                }
+            } catch (final IOException e) {
+                throw new ClassTraversingException(e);
+            }
+            final List<Found> found = new ArrayList<>();
+            for (final Object result : results) {
+                if (result instanceof DirectoryTask) {
+                    found.addAll(((DirectoryTask) result).join());
+                } else {
+                    found.add((Found) result);
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * 対象とするjarファイルのエントリを選択するクラス。
+     * 
+     * <p>いずれかの起点クラスのパッケージ配下で、フィルターが含めるクラスが存在し得るパッケージのクラスファイルを選択する。
+     * jarファイルのエントリは通常ディレクトリごとにまとまっているため、直前のエントリと同じディレクトリであれば
+     * パッケージの判定結果を再利用する。</p>
+     */
+    private final class JarEntrySelector {
+
+        /**
+         * 共通するパッケージに対応するエントリ名の接頭辞
+         */
+        private final String prefix = rootPackage.isEmpty() ? ""
+                : rootPackage.replace('.', '/') + '/';
+        /**
+         * 直前に判定したディレクトリ
+         */
+        private String lastDirectory;
+        /**
+         * 直前に判定したディレクトリの判定結果
+         */
+        private boolean lastSelected;
+
+        /**
+         * 対象とするエントリであるかどうか判定する。
+         * 
+         * @param entry エントリ
+         * @return 対象とするエントリの場合、真
+         */
+        boolean select(final JarEntry entry) {
+            final String name = entry.getName();
+            if (name.startsWith(prefix) == false || name.endsWith(CLASSFILE_SUFFIX) == false
+                    || entry.isDirectory()) {
+                return false;
+            }
+            final int index = name.lastIndexOf('/');
+            final String directory = index < 0 ? "" : name.substring(0, index);
+            if (directory.equals(lastDirectory) == false) {
+                lastDirectory = directory;
+                lastSelected = mayContainClasses(directory.replace('/', '.'));
+            }
+            return lastSelected;
+        }
+    }
+
+    /**
+     * jarファイルのエントリの範囲を処理するタスク。並列に処理する場合は範囲を分割する。
+     */
+    private final class JarEntriesTask extends RecursiveTask<List<Found>> {
+
+        /**
+         * シリアルバージョンUID
+         */
+        private static final long serialVersionUID = 1L;
+        /**
+         * 1つのタスクで処理するエントリ数の上限
+         */
+        private static final int THRESHOLD = 256;
+        /**
+         * jarファイル
+         */
+        private final JarFile jar;
+        /**
+         * クラスファイルのエントリ
+         */
+        private final List<JarEntry> entries;
+        /**
+         * 処理する範囲の開始位置
+         */
+        private final int from;
+        /**
+         * 処理する範囲の終了位置（この位置を含まない）
+         */
+        private final int to;
+        /**
+         * 範囲を分割して並列に処理する場合は{@literal true}
+         */
+        private final boolean parallel;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param jar jarファイル
+         * @param entries クラスファイルのエントリ
+         * @param from 処理する範囲の開始位置
+         * @param to 処理する範囲の終了位置（この位置を含まない）
+         * @param parallel 範囲を分割して並列に処理する場合は{@literal true}
+         */
+        JarEntriesTask(final JarFile jar, final List<JarEntry> entries, final int from,
+                final int to, final boolean parallel) {
+            this.jar = jar;
+            this.entries = entries;
+            this.from = from;
+            this.to = to;
+            this.parallel = parallel;
+        }
+
+        @Override
+        protected List<Found> compute() {
+            if (parallel && to - from > THRESHOLD) {
+                final int middle = (from + to) >>> 1;
+                final JarEntriesTask right = new JarEntriesTask(jar, entries, middle, to, true);
+                right.fork();
+                final List<Found> found = new JarEntriesTask(jar, entries, from, middle, true)
+                        .compute();
+                found.addAll(right.join());
+                return found;
+            }
+            final List<Found> found = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                final JarEntry entry = entries.get(i);
+                loadClass(found::add, entry.getName(), jarEntryReader(jar, entry));
+            }
+            return found;
+        }
+    }
+
+    /**
+     * 起点クラスとフィルターの組。
+     */
+    private static final class Target {
+
+        /**
+         * 起点クラスのパッケージ
+         */
+        private final String basePackage;
+        /**
+         * フィルター
+         */
+        private final ClassFilter classFilter;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param basePackage 起点クラスのパッケージ
+         * @param classFilter フィルター
+         */
+        Target(final String basePackage, final ClassFilter classFilter) {
+            this.basePackage = basePackage;
+            this.classFilter = classFilter;
+        }
+
+        /**
+         * パッケージが起点クラスのパッケージ、またはその配下であるかどうか判定する。
+         * 
+         * @param packageName パッケージ名
+         * @return 起点クラスのパッケージ、またはその配下である場合、真
+         */
+        boolean contains(final String packageName) {
+            return isWithin(packageName, basePackage);
+        }
+
+        /**
+         * クラスが起点クラスのパッケージ配下にあるかどうか判定する。
+         * 
+         * @param className クラス名
+         * @return 起点クラスのパッケージ配下にある場合、真
+         */
+        boolean containsClass(final String className) {
+            return isInPackage(className, basePackage);
+        }
+
+        /**
+         * パッケージのディレクトリを走査する必要があるかどうか判定する。
+         * 
+         * @param packageName パッケージ名
+         * @return 起点クラスのパッケージの祖先であるか、配下にフィルターが含めるクラスが存在し得る場合、真
+         */
+        boolean mayVisit(final String packageName) {
+            if (contains(packageName)) {
+                return classFilter.mayIncludePackage(packageName);
+            }
+            return isWithin(basePackage, packageName);
+        }
+    }
+
+    /**
+     * 見つかったクラスと、振り分ける対象の組。
+     */
+    private static final class Found {
+
+        /**
+         * 見つかったクラス
+         */
+        private final Class<?> clazz;
+        /**
+         * 振り分ける対象のインデックス
+         */
+        private final int[] targets;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param clazz 見つかったクラス
+         * @param targets 振り分ける対象のインデックス
+         */
+        Found(final Class<?> clazz, final int[] targets) {
+            this.clazz = clazz;
+            this.targets = targets;
+        }
+    }
+
+    /**
+     * クラスファイルを読み込む処理。
+     */
+    @FunctionalInterface
+    private interface ClassFileReader {
+
+        /**
+         * クラスファイルを読み込む。
+         *
+         * @return クラスファイル
+         * @throws IOException 読み込みに失敗した場合
+         */
+        ClassFile read() throws IOException;
+    }
 }
@@ -0,0 +1,138 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import nablarch.core.log.Logger;
+import nablarch.core.log.LoggerManager;
+import nablarch.fw.dicontainer.exception.ClassTraversingException;
+
+/**
+ * コンパイル時に生成されたコンポーネントのインデックスを読み込むクラス。
+ *
+ * <p>インデックスはアノテーションプロセッサによって{@value #RESOURCE_NAME}に出力される、
+ * コンポーネントのクラス名（バイナリ名）を1行に1つ記述したUTF-8のテキストファイルである。
+ * 空行と{@code #}で始まる行は無視する。</p>
+ *
+ * <p>インデックスは起点となるクラスと同じ{@link CodeSource}（ディレクトリまたはjarファイル）にあるものだけを読み込む。
+ * 見つけたクラスには{@link ClassTraverser}と同じく、起点クラスのパッケージとフィルターを適用する。</p>
+ *
+ */
+public final class ComponentIndex {
+
+    /**
+     * インデックスのリソース名
+     */
+    public static final String RESOURCE_NAME = "META-INF/nablarch/dicontainer-components";
+    /**
+     * ロガー
+     */
+    private static final Logger LOGGER = LoggerManager.get(ComponentIndex.class);
+    /**
+     * 見つけたクラスをロードするためのクラスローダー
+     */
+    private final ClassLoader classLoader;
+    /**
+     * インデックスを探す起点となるクラス
+     */
+    private final Class<?> baseClass;
+    /**
+     * フィルター
+     */
+    private final ClassFilter classFilter;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param classLoader 見つけたクラスをロードするためのクラスローダー
+     * @param baseClass インデックスを探す起点となるクラス
+     * @param classFilter フィルター
+     */
+    public ComponentIndex(final ClassLoader classLoader, final Class<?> baseClass,
+            final ClassFilter classFilter) {
+        this.classLoader = Objects.requireNonNull(classLoader);
+        this.baseClass = Objects.requireNonNull(baseClass);
+        this.classFilter = Objects.requireNonNull(classFilter);
+    }
+
+    /**
+     * インデックスに記載されたクラスに処理を行う。
+     *
+     * @param consumer 見つかったクラスに適用する処理
+     * @return インデックスが存在した場合は{@literal true}
+     */
+    public boolean traverse(final Consumer<Class<?>> consumer) {
+        final Optional<List<String>> classNames = read();
+        if (classNames.isPresent() == false) {
+            LOGGER.logDebug("Component index not found for [" + baseClass.getName() + "]");
+            return false;
+        }
+        final Package p = baseClass.getPackage();
+        final String baseClassPackage = p == null ? "" : p.getName();
+        for (final String className : classNames.get()) {
+            if (ClassTraverser.isInPackage(className, baseClassPackage)
+                    && classFilter.select(className)) {
+                consumer.accept(ClassTraverser.forName(className, classLoader));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 起点クラスと同じ{@link CodeSource}にあるインデックスを読み込む。
+     *
+     * @return インデックスに記載されたクラス名。インデックスが存在しない場合は空
+     */
+    Optional<List<String>> read() {
+        final CodeSource codeSource = baseClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+        final String location = codeSource.getLocation().toExternalForm();
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(RESOURCE_NAME);
+            while (resources.hasMoreElements()) {
+                final URL resource = resources.nextElement();
+                final String url = resource.toExternalForm();
+                if (url.startsWith(location) || url.startsWith("jar:" + location + "!/")) {
+                    return Optional.of(readClassNames(resource));
+                }
+            }
+        } catch (final IOException e) {
+            throw new ClassTraversingException(e);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * インデックスからクラス名を読み込む。
+     *
+     * @param resource インデックス
+     * @return クラス名
+     * @throws IOException 予期しない入出力例外
+     */
+    private static List<String> readClassNames(final URL resource) throws IOException {
+        final List<String> classNames = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String className = line.trim();
+                if (className.isEmpty() == false && className.startsWith("#") == false) {
+                    classNames.add(className);
+                }
+            }
+        }
+        return classNames;
+    }
+}
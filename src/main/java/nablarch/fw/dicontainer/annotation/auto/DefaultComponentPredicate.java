@@ -1,6 +1,13 @@
 package nablarch.fw.dicontainer.annotation.auto;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.inject.Qualifier;
 import javax.inject.Scope;
@@ -13,6 +20,40 @@ import javax.inject.Scope;
  */
 public final class DefaultComponentPredicate implements ComponentPredicate {
 
+    /**
+     * スーパークラス名と、そのクラス階層に{@link Inherited}なスコープまたは限定子が付与され得るかどうかのマッピング。
+     * 結果を保持しない場合は{@literal null}
+     */
+    private final ConcurrentMap<String, Boolean> inheritedCache;
+
+    /**
+     * インスタンスを生成する。
+     */
+    public DefaultComponentPredicate() {
+        this(null);
+    }
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param inheritedCache スーパークラスごとの判定結果を保持するマッピング。保持しない場合は{@literal null}
+     */
+    private DefaultComponentPredicate(final ConcurrentMap<String, Boolean> inheritedCache) {
+        this.inheritedCache = inheritedCache;
+    }
+
+    /**
+     * 1回のディレクトリトラバーサルで使用する、スーパークラスごとの判定結果を保持するインスタンスを生成する。
+     *
+     * <p>判定結果はスーパークラス名だけをキーとして保持するため、
+     * 返したインスタンスは同じクラスローダーに対してのみ使用すること。</p>
+     *
+     * @return スーパークラスごとの判定結果を保持するインスタンス
+     */
+    DefaultComponentPredicate forTraversal() {
+        return new DefaultComponentPredicate(new ConcurrentHashMap<>());
+    }
+
     @Override
     public boolean test(final Class<?> clazz) {
         for (final Annotation annotation : clazz.getAnnotations()) {
@@ -23,4 +64,97 @@ public final class DefaultComponentPredicate implements ComponentPredicate {
         }
         return false;
     }
+
+    /**
+     * クラスをロードする前に、クラスファイルの内容からコンポーネントの候補であるかどうか判定する。
+     *
+     * <p>偽を返したクラスはロードせず、{@link #test(Class)}も呼び出さない。
+     * クラスファイルに記録されたアノテーションの型だけをロードして判定する。
+     * {@link Inherited}が付与されたスコープまたは限定子はスーパークラスのクラスファイルも辿って判定する。
+     * スーパークラスのクラスファイルが読み込めない場合や解析できない場合は候補とみなす。</p>
+     *
+     * @param classFile 対象クラスのクラスファイル
+     * @param classLoader 対象クラスをロードするクラスローダー
+     * @return コンポーネントの候補である場合、真
+     */
+    boolean mayBeComponent(final ClassFile classFile, final ClassLoader classLoader) {
+        if (hasComponentAnnotation(classFile.getAnnotationTypeNames(), classLoader, false)) {
+            return true;
+        }
+        return inheritsComponentAnnotation(classFile.getSuperClassName(), classLoader);
+    }
+
+    /**
+     * スーパークラスの階層に{@link Inherited}なスコープまたは限定子が付与され得るかどうか判定する。
+     *
+     * <p>判定結果を保持する場合は、辿ったスーパークラスごとに結果を保持し、
+     * 同じスーパークラスを持つクラスではクラスファイルを読み直さない。</p>
+     *
+     * @param superClassName スーパークラス名
+     * @param classLoader クラスファイルを読み込むクラスローダー
+     * @return 付与され得る場合、真
+     */
+    private boolean inheritsComponentAnnotation(final String superClassName,
+            final ClassLoader classLoader) {
+        final List<String> visited = new ArrayList<>();
+        String className = superClassName;
+        boolean result = false;
+        while (className != null && className.equals(Object.class.getName()) == false) {
+            final Boolean cached = inheritedCache != null ? inheritedCache.get(className) : null;
+            if (cached != null) {
+                result = cached;
+                break;
+            }
+            visited.add(className);
+            final Optional<ClassFile> superClassFile;
+            try {
+                superClassFile = ClassFile.read(classLoader, className);
+            } catch (final IOException | RuntimeException e) {
+                result = true;
+                break;
+            }
+            if (superClassFile.isPresent() == false
+                    || hasComponentAnnotation(superClassFile.get().getAnnotationTypeNames(),
+                            classLoader, true)) {
+                result = true;
+                break;
+            }
+            className = superClassFile.get().getSuperClassName();
+        }
+        if (inheritedCache != null) {
+            for (final String name : visited) {
+                inheritedCache.put(name, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * スコープまたは限定子のアノテーションが含まれるかどうか判定する。
+     *
+     * @param annotationTypeNames アノテーションの型名
+     * @param classLoader アノテーションの型をロードするクラスローダー
+     * @param inheritedOnly {@link Inherited}が付与されたアノテーションだけを対象とする場合、真
+     * @return スコープまたは限定子のアノテーションが含まれる場合、真
+     */
+    private static boolean hasComponentAnnotation(final List<String> annotationTypeNames,
+            final ClassLoader classLoader, final boolean inheritedOnly) {
+        for (final String annotationTypeName : annotationTypeNames) {
+            final Class<?> annotationType;
+            try {
+                annotationType = Class.forName(annotationTypeName, false, classLoader);
+            } catch (final ClassNotFoundException | LinkageError e) {
+                // 実行時に見つからないアノテーションはClass#getAnnotations()でも無視される
+                continue;
+            }
+            if (inheritedOnly && annotationType.isAnnotationPresent(Inherited.class) == false) {
+                continue;
+            }
+            if (annotationType.isAnnotationPresent(Scope.class)
+                    || annotationType.isAnnotationPresent(Qualifier.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,410 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import nablarch.core.log.Logger;
+import nablarch.core.log.LoggerManager;
+
+/**
+ * コード配置場所（ディレクトリまたはjarファイル）ごとに、コンポーネントと判定したクラス名を保存するキャッシュ。
+ *
+ * <p>キャッシュのキーはコード配置場所のパス、起点クラスのパッケージ、{@link TraversalConfig}の
+ * 含めるパターンと除外するパターン、{@link ComponentPredicate}の実装クラス名で構成する。
+ * コード配置場所のサイズと更新日時（ディレクトリの場合は起点パッケージ配下の合計サイズ、最新の更新日時、
+ * ファイル数、ファイル名から求めたハッシュ値）が保存時と一致する場合のみキャッシュを使用する。
+ * ファイルの内容は読み込まないため、ファイル名、サイズおよび更新日時を変えずに内容だけを書き換えた場合は
+ * 変更を検知できない。</p>
+ *
+ * <p>キャッシュはバイナリ形式のファイルに保存する。
+ * ファイルが存在しない場合や読み込めない場合は空のキャッシュとして扱い、
+ * 保存に失敗してもDIコンテナの構築は継続する。
+ * 保存するのは、今回の構築で参照または更新したエントリのみである。</p>
+ *
+ */
+public final class ScanCache {
+
+    /**
+     * ファイルの識別子
+     */
+    private static final int MAGIC = 0x4E445343;
+    /**
+     * ファイル形式のバージョン
+     */
+    private static final int VERSION = 2;
+    /**
+     * ロガー
+     */
+    private static final Logger LOGGER = LoggerManager.get(ScanCache.class);
+    /**
+     * 保存先のファイル
+     */
+    private final Path file;
+    /**
+     * 読み込んだエントリ
+     */
+    private final Map<String, Entry> loaded;
+    /**
+     * 今回の構築で参照または更新したエントリ
+     */
+    private final Map<String, Entry> used = new ConcurrentHashMap<>();
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param file 保存先のファイル
+     * @param loaded 読み込んだエントリ
+     */
+    private ScanCache(final Path file, final Map<String, Entry> loaded) {
+        this.file = file;
+        this.loaded = loaded;
+    }
+
+    /**
+     * ファイルからキャッシュを読み込む。
+     *
+     * @param file 保存先のファイル
+     * @return キャッシュ
+     */
+    public static ScanCache load(final Path file) {
+        Objects.requireNonNull(file);
+        final Map<String, Entry> entries = new ConcurrentHashMap<>();
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOGGER.logDebug("Ignore scan cache [" + file + "] because of unknown format.");
+                return new ScanCache(file, entries);
+            }
+            final int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                final String key = in.readUTF();
+                final long size = in.readLong();
+                final long lastModified = in.readLong();
+                final int fileCount = in.readInt();
+                final long names = in.readLong();
+                final int classCount = in.readInt();
+                final List<String> classNames = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classNames.add(in.readUTF());
+                }
+                entries.put(key, new Entry(new Fingerprint(size, lastModified, fileCount, names),
+                        Collections.unmodifiableList(classNames)));
+            }
+        } catch (final NoSuchFileException e) {
+            LOGGER.logDebug("Scan cache [" + file + "] not found.");
+        } catch (final IOException e) {
+            LOGGER.logDebug("Could not read scan cache [" + file + "]: " + e);
+            entries.clear();
+        }
+        return new ScanCache(file, entries);
+    }
+
+    /**
+     * キャッシュのキーを生成する。
+     *
+     * @param traversalConfig ディレクトリトラバーサルの設定
+     * @param predicate コンポーネントとみなすための条件
+     * @return キャッシュのキー。コード配置場所がファイルシステム上にない場合は空
+     */
+    public Optional<Key> key(final TraversalConfig traversalConfig,
+            final ComponentPredicate predicate) {
+        final Class<?> baseClass = traversalConfig.getClass();
+        final CodeSource codeSource = baseClass.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+        final Path location;
+        try {
+            location = Paths.get(codeSource.getLocation().toURI());
+        } catch (final URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        final Package p = baseClass.getPackage();
+        return key(location, p == null ? "" : p.getName(), traversalConfig, predicate);
+    }
+
+    /**
+     * キャッシュのキーを生成する。
+     *
+     * @param location コード配置場所
+     * @param baseClassPackage 起点クラスのパッケージ
+     * @param traversalConfig ディレクトリトラバーサルの設定
+     * @param predicate コンポーネントとみなすための条件
+     * @return キャッシュのキー。コード配置場所の状態を取得できない場合は空
+     */
+    Optional<Key> key(final Path location, final String baseClassPackage,
+            final TraversalConfig traversalConfig, final ComponentPredicate predicate) {
+        final String id = location + "\n" + baseClassPackage
+                + "\n" + new TreeSet<>(traversalConfig.includes())
+                + "\n" + new TreeSet<>(traversalConfig.excludes())
+                + "\n" + predicate.getClass().getName();
+        try {
+            return Optional.of(new Key(id, Fingerprint.of(location, baseClassPackage)));
+        } catch (final IOException e) {
+            LOGGER.logDebug("Could not fingerprint [" + location + "]: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * キャッシュされたクラス名を取得する。
+     *
+     * @param key キャッシュのキー
+     * @return コンポーネントと判定したクラス名。キャッシュがない、またはコード配置場所が変更された場合は空
+     */
+    public Optional<List<String>> get(final Key key) {
+        final Entry entry = loaded.get(key.id);
+        if (entry == null || entry.fingerprint.equals(key.fingerprint) == false) {
+            return Optional.empty();
+        }
+        used.putIfAbsent(key.id, entry);
+        return Optional.of(entry.classNames);
+    }
+
+    /**
+     * コンポーネントと判定したクラス名をキャッシュする。
+     *
+     * @param key キャッシュのキー
+     * @param classNames コンポーネントと判定したクラス名
+     */
+    public void put(final Key key, final List<String> classNames) {
+        used.put(key.id, new Entry(key.fingerprint,
+                Collections.unmodifiableList(new ArrayList<>(classNames))));
+    }
+
+    /**
+     * キャッシュをファイルに保存する。
+     */
+    public void save() {
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(
+                        new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    final Map<String, Entry> entries = new TreeMap<>(used);
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    out.writeInt(entries.size());
+                    for (final Map.Entry<String, Entry> e : entries.entrySet()) {
+                        out.writeUTF(e.getKey());
+                        out.writeLong(e.getValue().fingerprint.size);
+                        out.writeLong(e.getValue().fingerprint.lastModified);
+                        out.writeInt(e.getValue().fingerprint.count);
+                        out.writeLong(e.getValue().fingerprint.names);
+                        out.writeInt(e.getValue().classNames.size());
+                        for (final String className : e.getValue().classNames) {
+                            out.writeUTF(className);
+                        }
+                    }
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final IOException e) {
+            LOGGER.logWarn("Could not write scan cache [" + file + "]: " + e);
+        }
+    }
+
+    /**
+     * キャッシュのキー。
+     *
+     */
+    public static final class Key {
+
+        /**
+         * コード配置場所とトラバーサルの条件を表す識別子
+         */
+        private final String id;
+        /**
+         * コード配置場所の現在の状態
+         */
+        private final Fingerprint fingerprint;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param id コード配置場所とトラバーサルの条件を表す識別子
+         * @param fingerprint コード配置場所の現在の状態
+         */
+        private Key(final String id, final Fingerprint fingerprint) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * キャッシュのエントリ。
+     *
+     */
+    private static final class Entry {
+
+        /**
+         * 保存時のコード配置場所の状態
+         */
+        private final Fingerprint fingerprint;
+        /**
+         * コンポーネントと判定したクラス名
+         */
+        private final List<String> classNames;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param fingerprint 保存時のコード配置場所の状態
+         * @param classNames コンポーネントと判定したクラス名
+         */
+        Entry(final Fingerprint fingerprint, final List<String> classNames) {
+            this.fingerprint = fingerprint;
+            this.classNames = classNames;
+        }
+    }
+
+    /**
+     * コード配置場所の状態。
+     *
+     */
+    private static final class Fingerprint {
+
+        /**
+         * サイズ
+         */
+        private final long size;
+        /**
+         * 更新日時
+         */
+        private final long lastModified;
+        /**
+         * ファイル数
+         */
+        private final int count;
+        /**
+         * ファイル名から求めたハッシュ値
+         */
+        private final long names;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param size サイズ
+         * @param lastModified 更新日時
+         * @param count ファイル数
+         * @param names ファイル名から求めたハッシュ値
+         */
+        Fingerprint(final long size, final long lastModified, final int count, final long names) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.count = count;
+            this.names = names;
+        }
+
+        /**
+         * コード配置場所の状態を取得する。
+         *
+         * <p>jarファイルの場合はファイルのサイズと更新日時を使用する。</p>
+         *
+         * <p>ディレクトリの場合は起点パッケージ配下のファイルの合計サイズ、
+         * ファイルとディレクトリの最新の更新日時、ファイル数、
+         * および起点パッケージからの相対パスから求めたハッシュ値を使用する。
+         * ファイルを追加、削除または名前変更した場合は、
+         * 合計サイズや更新日時が変わらなくてもファイル数かハッシュ値が変わる。
+         * ただし、ファイルの内容は読み込まないため、名前、サイズ、更新日時を変えずに
+         * 内容だけが書き換えられた場合は検知できない。</p>
+         *
+         * @param location コード配置場所
+         * @param baseClassPackage 起点クラスのパッケージ
+         * @return コード配置場所の状態
+         * @throws IOException 予期しない入出力例外
+         */
+        static Fingerprint of(final Path location, final String baseClassPackage)
+                throws IOException {
+            if (Files.isDirectory(location) == false) {
+                final BasicFileAttributes attributes = Files.readAttributes(location,
+                        BasicFileAttributes.class);
+                return new Fingerprint(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                        0, 0);
+            }
+            final Path root = baseClassPackage.isEmpty() ? location
+                    : location.resolve(baseClassPackage.replace(".",
+                            location.getFileSystem().getSeparator()));
+            if (Files.isDirectory(root, LinkOption.NOFOLLOW_LINKS) == false) {
+                return new Fingerprint(0, 0, 0, 0);
+            }
+            long size = 0;
+            long lastModified = 0;
+            int count = 0;
+            long names = 0;
+            try (Stream<Path> stream = Files.walk(root)) {
+                for (final Path path : (Iterable<Path>) stream::iterator) {
+                    final BasicFileAttributes attributes = Files.readAttributes(path,
+                            BasicFileAttributes.class);
+                    if (attributes.isRegularFile()) {
+                        size += attributes.size();
+                        count++;
+                        // 走査順に依存しないよう、相対パスごとのハッシュ値を加算する
+                        names += hash(root.relativize(path).toString());
+                    }
+                    lastModified = Math.max(lastModified,
+                            attributes.lastModifiedTime().toMillis());
+                }
+            }
+            return new Fingerprint(size, lastModified, count, names);
+        }
+
+        /**
+         * 文字列の64ビットのハッシュ値（FNV-1a）を求める。
+         *
+         * @param value 文字列
+         * @return ハッシュ値
+         */
+        private static long hash(final String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return h;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Fingerprint == false) {
+                return false;
+            }
+            final Fingerprint other = (Fingerprint) obj;
+            return size == other.size && lastModified == other.lastModified
+                    && count == other.count && names == other.names;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModified, count, names);
+        }
+    }
+}
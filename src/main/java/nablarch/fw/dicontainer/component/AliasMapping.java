@@ -1,39 +1,134 @@
 package nablarch.fw.dicontainer.component;
 
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * エイリアスキーと検索キーをマッピングするクラス。
  *
+ * <p>DIコンテナの構築時に{@link #freeze()}を呼び出すと、
+ * マッピングを変更不可能な検索表へ変換した複製を生成する。複製にはマッピングを登録できない。</p>
+ *
  */
 public final class AliasMapping {
 
     /**
-     * マッピング
+     * マッピング。
+     * 検索キーは登録順に保持する。凍結した複製では{@literal null}。
+     */
+    private final Map<ComponentKey.AliasKey, Set<ComponentKey<?>>> aliasesMap;
+
+    /**
+     * 凍結した複製の検索表。凍結していない場合は{@literal null}。
+     */
+    private final LookupTable<ComponentKey.AliasKey, Set<ComponentKey<?>>> frozen;
+
+    /**
+     * インスタンスを生成する。
+     */
+    public AliasMapping() {
+        this.aliasesMap = new LinkedHashMap<>();
+        this.frozen = null;
+    }
+
+    /**
+     * 凍結した複製を生成する。
+     *
+     * @param frozen 検索表
      */
-    private final Map<ComponentKey.AliasKey, Set<ComponentKey<?>>> aliasesMap = new LinkedHashMap<>();
+    private AliasMapping(final LookupTable<ComponentKey.AliasKey, Set<ComponentKey<?>>> frozen) {
+        this.aliasesMap = null;
+        this.frozen = frozen;
+    }
 
     /**
      * エイリアスキーと検索キーをマッピングする。
-     * 
+     *
      * @param aliasKey エイリアスキー
      * @param key 検索キー
+     * @throws IllegalStateException 凍結した複製に対して呼び出された場合
      */
     public void register(final ComponentKey.AliasKey aliasKey, final ComponentKey<?> key) {
-        aliasesMap.computeIfAbsent(aliasKey, a -> new HashSet<>()).add(key);
+        if (frozen != null) {
+            throw new IllegalStateException(
+                    "Alias key can not be registered after freezing. aliasKey=" + aliasKey);
+        }
+        aliasesMap.computeIfAbsent(aliasKey, a -> new LinkedHashSet<>()).add(key);
+    }
+
+    /**
+     * マッピングを変更不可能な検索表へ変換した複製を生成する。
+     *
+     * <p>エイリアスキーごとの検索キーの集合は、配列で保持する変更不可能な集合へ変換する。
+     * このマッピングは変更しないため、以降もマッピングを登録できる。
+     * 既に凍結した複製である場合は自分自身を返す。</p>
+     *
+     * @return 凍結した複製
+     */
+    public AliasMapping freeze() {
+        if (frozen != null) {
+            return this;
+        }
+        final Map<ComponentKey.AliasKey, Set<ComponentKey<?>>> compacted = new HashMap<>();
+        for (final Map.Entry<ComponentKey.AliasKey, Set<ComponentKey<?>>> entry : aliasesMap
+                .entrySet()) {
+            final Set<ComponentKey<?>> keys = entry.getValue();
+            compacted.put(entry.getKey(), keys.size() == 1
+                    ? Collections.singleton(keys.iterator().next())
+                    : new KeyArraySet(keys.toArray(new ComponentKey<?>[0])));
+        }
+        return new AliasMapping(new LookupTable<>(compacted));
     }
 
     /**
      * マッピングされた検索キーを取得する。
-     * 
+     *
      * @param aliasKey エイリアスキー
-     * @return 検索キーの集合
+     * @return 検索キーの集合（登録順）
      */
     public Set<ComponentKey<?>> find(final ComponentKey.AliasKey aliasKey) {
+        if (frozen != null) {
+            final Set<ComponentKey<?>> keys = frozen.get(aliasKey);
+            return keys != null ? keys : Collections.emptySet();
+        }
         return aliasesMap.getOrDefault(aliasKey, Collections.emptySet());
     }
+
+    /**
+     * 検索キーを配列で保持する変更不可能な集合。
+     *
+     */
+    private static final class KeyArraySet extends AbstractSet<ComponentKey<?>> {
+
+        /**
+         * 検索キー（登録順）
+         */
+        private final ComponentKey<?>[] keys;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param keys 重複のない検索キー
+         */
+        KeyArraySet(final ComponentKey<?>[] keys) {
+            this.keys = keys;
+        }
+
+        @Override
+        public Iterator<ComponentKey<?>> iterator() {
+            return Collections.unmodifiableList(Arrays.<ComponentKey<?>> asList(keys)).iterator();
+        }
+
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
 }
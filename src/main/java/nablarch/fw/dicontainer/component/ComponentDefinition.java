@@ -8,12 +8,14 @@ import java.util.Optional;
 import javax.inject.Provider;
 
 import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.component.factory.ComponentInjectorFactory;
 import nablarch.fw.dicontainer.component.impl.NoopDestroyMethod;
 import nablarch.fw.dicontainer.component.impl.NoopInitMethod;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
 import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.scope.ComponentRemoveableScope;
 import nablarch.fw.dicontainer.scope.Scope;
+import nablarch.fw.dicontainer.scope.SingletonScope;
 
 /**
  * コンポーネント定義
@@ -54,6 +56,21 @@ public final class ComponentDefinition<T> {
      * スコープ
      */
     private final Scope scope;
+    /**
+     * DIコンテナ内でのインデックス。
+     * DIコンテナの構築時に0から連番で割り当てられる。割り当て前は{@literal -1}。
+     */
+    private volatile int index = -1;
+    /**
+     * コンポーネントの生成からインジェクション、初期化までを一度に行うクラス。
+     * 生成されていない場合は{@literal null}。
+     */
+    private volatile ComponentInjector injector;
+    /**
+     * 直近に使用したDIコンテナに対するプロバイダ。
+     * コンポーネント取得のたびにプロバイダを生成しないよう保持している。
+     */
+    private volatile ComponentProvider provider;
 
     /**
      * インスタンスを生成する。
@@ -96,6 +113,33 @@ public final class ComponentDefinition<T> {
         return id;
     }
 
+    /**
+     * DIコンテナ内でのインデックスを取得する。
+     * 
+     * @return インデックス。割り当てられていない場合は{@literal -1}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * DIコンテナ内でのインデックスを割り当てる。
+     * 
+     * @param index インデックス
+     */
+    void assignIndex(final int index) {
+        this.index = index;
+    }
+
+    /**
+     * スコープを取得する。
+     * 
+     * @return スコープ
+     */
+    Scope getScope() {
+        return scope;
+    }
+
     /**
      * バリデーションを行う。
      * 
@@ -113,6 +157,30 @@ public final class ComponentDefinition<T> {
         destroyMethod.validate(containerBuilder, this);
     }
 
+    /**
+     * 依存コンポーネントのコンポーネント定義を結び付ける。
+     * 
+     * @param containerBuilder DIコンテナのビルダー
+     */
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        injectableConstructor.link(containerBuilder);
+        for (final InjectableMember injectableMember : injectableMembers) {
+            injectableMember.link(containerBuilder);
+        }
+    }
+
+    /**
+     * コンポーネントの生成からインジェクション、初期化までを一度に行うクラスを生成する。
+     * 
+     * <p>生成できた場合、以降のコンポーネントの生成には生成したクラスを使用する。</p>
+     * 
+     * @param injectorFactory {@link ComponentInjector}のファクトリ
+     */
+    public void compile(final ComponentInjectorFactory injectorFactory) {
+        injectorFactory.create(injectableConstructor, injectableMembers, initMethod)
+                .ifPresent(a -> this.injector = a);
+    }
+
     /**
      * 渡されたコンポーネント定義よりもスコープが狭いかどうかを返す。
      * 
@@ -123,16 +191,25 @@ public final class ComponentDefinition<T> {
         return scope.dimensions() <= injected.scope.dimensions();
     }
 
+    /**
+     * シングルトンスコープのコンポーネントかどうかを返す。
+     * 
+     * @return シングルトンスコープの場合は{@literal true}
+     */
+    public boolean isSingleton() {
+        return scope instanceof SingletonScope;
+    }
+
     /**
      * 依存関係の循環を検出するためのバリデーションを行う。
      * 
+     * <p>何も行わない。</p>
+     * 
      * @param context 循環依存バリデーションのコンテキスト
+     * @deprecated 依存関係の循環は{@link ContainerBuilder#build()}でまとめて検出するため、このメソッドは呼び出されない
      */
+    @Deprecated
     public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        injectableConstructor.validateCycleDependency(context.createSubContext());
-        for (final InjectableMember injectableMember : injectableMembers) {
-            injectableMember.validateCycleDependency(context.createSubContext());
-        }
     }
 
     /**
@@ -143,18 +220,12 @@ public final class ComponentDefinition<T> {
      */
     public T getComponent(final Container container) {
         Objects.requireNonNull(container);
-        final Provider<T> provider = new Provider<T>() {
-            @Override
-            public T get() {
-                final Object component = injectableConstructor.inject(container);
-                for (final InjectableMember injectableMember : injectableMembers) {
-                    injectableMember.inject(container, component);
-                }
-                initMethod.invoke(component);
-                return componentType.cast(component);
-            }
-        };
-        return scope.getComponent(id, provider);
+        ComponentProvider provider = this.provider;
+        if (provider == null || provider.container != container) {
+            provider = new ComponentProvider(container);
+            this.provider = provider;
+        }
+        return scope.getComponent(this, provider);
     }
 
     /**
@@ -201,6 +272,41 @@ public final class ComponentDefinition<T> {
                 + scope.getClass().getSimpleName() + ")";
     }
 
+    /**
+     * コンポーネントをインスタンス化するプロバイダ。
+     *
+     */
+    private final class ComponentProvider implements Provider<T> {
+
+        /**
+         * DIコンテナ
+         */
+        private final Container container;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param container DIコンテナ
+         */
+        ComponentProvider(final Container container) {
+            this.container = container;
+        }
+
+        @Override
+        public T get() {
+            final ComponentInjector injector = ComponentDefinition.this.injector;
+            if (injector != null) {
+                return componentType.cast(injector.inject(container));
+            }
+            final Object component = injectableConstructor.inject(container);
+            for (final InjectableMember injectableMember : injectableMembers) {
+                injectableMember.inject(container, component);
+            }
+            initMethod.invoke(component);
+            return componentType.cast(component);
+        }
+    }
+
     /**
      * ビルダーのインスタンスを生成する。
      * 
@@ -1,26 +1,62 @@
 package nablarch.fw.dicontainer.component;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.component.factory.ComponentInjectorFactory;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
 import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
+import nablarch.fw.dicontainer.scope.Scope;
 
 /**
  * コンポーネント定義のリポジトリ。
+ * 
+ * <p>DIコンテナの構築時に{@link #freeze()}を呼び出すと、
+ * 登録内容を変更不可能な検索表へ変換した複製を生成する。複製にはコンポーネント定義を登録できない。</p>
  *
  */
 public final class ComponentDefinitionRepository {
 
     /**
-     * IDとコンポーネント定義のマッピング
+     * IDとコンポーネント定義のマッピング。凍結した複製では{@literal null}。
      */
-    private final Map<ComponentId, ComponentDefinition<?>> idToDefinition = new HashMap<>();
+    private final Map<ComponentId, ComponentDefinition<?>> idToDefinition;
     /**
-     * 検索キーとIDのマッピング
+     * 検索キーとIDのマッピング。凍結した複製では{@literal null}。
      */
-    private final Map<ComponentKey<?>, ComponentId> keyToId = new HashMap<>();
+    private final Map<ComponentKey<?>, ComponentId> keyToId;
+    /**
+     * 凍結した複製の検索表。凍結していない場合は{@literal null}。
+     */
+    private final Frozen frozen;
+
+    /**
+     * インスタンスを生成する。
+     */
+    public ComponentDefinitionRepository() {
+        this.idToDefinition = new LinkedHashMap<>();
+        this.keyToId = new HashMap<>();
+        this.frozen = null;
+    }
+
+    /**
+     * 凍結した複製を生成する。
+     * 
+     * @param frozen 検索表
+     */
+    private ComponentDefinitionRepository(final Frozen frozen) {
+        this.idToDefinition = null;
+        this.keyToId = null;
+        this.frozen = frozen;
+    }
 
     /**
      * コンポーネント定義を登録する。
@@ -28,13 +64,39 @@ public final class ComponentDefinitionRepository {
      * @param <T> コンポーネントの型
      * @param key 検索キー
      * @param definition コンポーネント定義
+     * @throws IllegalStateException 凍結した複製に対して呼び出された場合
      */
     public <T> void register(final ComponentKey<T> key, final ComponentDefinition<T> definition) {
+        if (frozen != null) {
+            throw new IllegalStateException(
+                    "Component definition can not be registered after freezing. key=" + key);
+        }
         final ComponentId id = definition.getId();
         idToDefinition.put(id, definition);
         keyToId.put(key, id);
     }
 
+    /**
+     * 登録内容を変更不可能な検索表へ変換した複製を生成する。
+     * 
+     * <p>このリポジトリは変更しないため、以降もコンポーネント定義を登録できる。
+     * 既に凍結した複製である場合は自分自身を返す。</p>
+     * 
+     * @return 凍結した複製
+     */
+    public ComponentDefinitionRepository freeze() {
+        if (frozen != null) {
+            return this;
+        }
+        final Map<ComponentKey<?>, ComponentDefinition<?>> keyToDefinition = new HashMap<>();
+        for (final Map.Entry<ComponentKey<?>, ComponentId> entry : keyToId.entrySet()) {
+            keyToDefinition.put(entry.getKey(), idToDefinition.get(entry.getValue()));
+        }
+        return new ComponentDefinitionRepository(new Frozen(new LookupTable<>(idToDefinition),
+                new LookupTable<>(keyToDefinition),
+                idToDefinition.values().toArray(new ComponentDefinition<?>[0])));
+    }
+
     /**
      * コンポーネント定義を取得する。
      * 
@@ -42,8 +104,10 @@ public final class ComponentDefinitionRepository {
      * @param id ID
      * @return コンポーネント定義
      */
+    @SuppressWarnings("unchecked")
     public <T> ComponentDefinition<T> get(final ComponentId id) {
-        final ComponentDefinition<?> definition = idToDefinition.get(id);
+        final ComponentDefinition<?> definition = frozen != null ? frozen.idToDefinition.get(id)
+                : idToDefinition.get(id);
         if (definition == null) {
             throw new ComponentNotFoundException("id = " + id);
         }
@@ -57,7 +121,11 @@ public final class ComponentDefinitionRepository {
      * @param key 検索キー
      * @return コンポーネント定義
      */
+    @SuppressWarnings("unchecked")
     public <T> ComponentDefinition<T> find(final ComponentKey<T> key) {
+        if (frozen != null) {
+            return (ComponentDefinition<T>) frozen.keyToDefinition.get(key);
+        }
         final ComponentId id = keyToId.get(key);
         final ComponentDefinition<?> definition = idToDefinition.get(id);
         if (definition == null) {
@@ -66,6 +134,58 @@ public final class ComponentDefinitionRepository {
         return (ComponentDefinition<T>) definition;
     }
 
+    /**
+     * 登録されたコンポーネント定義を返す。
+     * 
+     * @return 登録されたコンポーネント定義
+     */
+    private Iterable<ComponentDefinition<?>> definitions() {
+        if (frozen != null) {
+            return Arrays.asList(frozen.definitions);
+        }
+        return idToDefinition.values();
+    }
+
+    /**
+     * 登録されたコンポーネント定義に、0から始まる連番のインデックスを割り当てる。
+     * 
+     * <p>スコープはこのインデックスを使って、ハッシュ探索を行わずにコンポーネントを保持できる。
+     * 割り当てた後、コンポーネント定義が使用するスコープごとに{@link Scope#prepare()}を1回呼び出す。</p>
+     */
+    public void assignIndexes() {
+        final Set<Scope> scopes = Collections.newSetFromMap(new IdentityHashMap<>());
+        int index = 0;
+        for (final ComponentDefinition<?> definition : definitions()) {
+            definition.assignIndex(index++);
+            scopes.add(definition.getScope());
+        }
+        for (final Scope scope : scopes) {
+            scope.prepare();
+        }
+    }
+
+    /**
+     * 登録されたコンポーネント定義に、依存コンポーネントのコンポーネント定義を結び付ける。
+     * 
+     * @param containerBuilder DIコンテナのビルダー
+     */
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        for (final ComponentDefinition<?> definition : definitions()) {
+            definition.link(containerBuilder);
+        }
+    }
+
+    /**
+     * 登録されたコンポーネント定義ごとに、コンポーネントの生成からインジェクション、初期化までを一度に行うクラスを生成する。
+     * 
+     * @param injectorFactory {@link ComponentInjector}のファクトリ
+     */
+    public void compile(final ComponentInjectorFactory injectorFactory) {
+        for (final ComponentDefinition<?> definition : definitions()) {
+            definition.compile(injectorFactory);
+        }
+    }
+
     /**
      * イベントを発火させる。
      * 
@@ -73,7 +193,7 @@ public final class ComponentDefinitionRepository {
      * @param event イベント
      */
     public void fire(final Container container, final Object event) {
-        for (final ComponentDefinition<?> definition : idToDefinition.values()) {
+        for (final ComponentDefinition<?> definition : definitions()) {
             definition.fire(container, event);
         }
     }
@@ -84,8 +204,54 @@ public final class ComponentDefinitionRepository {
      * @param containerBuilder DIコンテナのビルダー
      */
     public void validate(final ContainerBuilder<?> containerBuilder) {
-        for (final ComponentDefinition<?> definition : idToDefinition.values()) {
+        for (final ComponentDefinition<?> definition : definitions()) {
             definition.validate(containerBuilder);
         }
     }
+
+    /**
+     * 登録されたコンポーネント定義を返す。
+     * 
+     * @return 登録されたコンポーネント定義を登録順に並べた変更不可能なリスト
+     */
+    public List<ComponentDefinition<?>> list() {
+        final List<ComponentDefinition<?>> list = new ArrayList<>();
+        definitions().forEach(list::add);
+        return Collections.unmodifiableList(list);
+    }
+
+    /**
+     * 凍結した複製の検索表。
+     *
+     */
+    private static final class Frozen {
+
+        /**
+         * IDとコンポーネント定義の検索表
+         */
+        private final LookupTable<ComponentId, ComponentDefinition<?>> idToDefinition;
+        /**
+         * 検索キーとコンポーネント定義の検索表
+         */
+        private final LookupTable<ComponentKey<?>, ComponentDefinition<?>> keyToDefinition;
+        /**
+         * 登録順のコンポーネント定義
+         */
+        private final ComponentDefinition<?>[] definitions;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param idToDefinition IDとコンポーネント定義の検索表
+         * @param keyToDefinition 検索キーとコンポーネント定義の検索表
+         * @param definitions 登録順のコンポーネント定義
+         */
+        Frozen(final LookupTable<ComponentId, ComponentDefinition<?>> idToDefinition,
+                final LookupTable<ComponentKey<?>, ComponentDefinition<?>> keyToDefinition,
+                final ComponentDefinition<?>[] definitions) {
+            this.idToDefinition = idToDefinition;
+            this.keyToDefinition = keyToDefinition;
+            this.definitions = definitions;
+        }
+    }
 }
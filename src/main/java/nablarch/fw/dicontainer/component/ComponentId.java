@@ -1,27 +1,53 @@
 package nablarch.fw.dicontainer.component;
 
 import java.io.Serializable;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * コンポーネント定義に付与されるID。
+ * 
+ * <p>IDはJVMごとに一度だけ決定する乱数の接頭辞と、連番から構成される。
+ * 接頭辞によって、セッションなどに保存されたIDが再起動後のIDと衝突することを防ぐ。
+ * 生成に{@link java.security.SecureRandom}を使用しないため、
+ * エントロピーが不足している環境でもDIコンテナの構築が遅くならない。</p>
+ * 
+ * <p>直列化形式は接頭辞と連番の2つの{@code long}である。</p>
  *
  */
 public final class ComponentId implements Serializable {
 
     /**
-     * IDの値
+     * シリアルバージョンUID
      */
-    private final UUID value;
+    private static final long serialVersionUID = 1L;
+    /**
+     * このJVMで生成するIDの接頭辞
+     */
+    private static final long PREFIX = ThreadLocalRandom.current().nextLong();
+    /**
+     * 連番の採番に使用するカウンタ
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * 接頭辞
+     */
+    private final long prefix;
+    /**
+     * 連番
+     */
+    private final long sequence;
 
     /**
      * インスタンスを生成する。
      * 
-     * @param value IDの値
+     * @param prefix 接頭辞
+     * @param sequence 連番
      */
-    private ComponentId(final UUID value) {
-        this.value = Objects.requireNonNull(value);
+    private ComponentId(final long prefix, final long sequence) {
+        this.prefix = prefix;
+        this.sequence = sequence;
     }
 
     /**
@@ -30,12 +56,12 @@ public final class ComponentId implements Serializable {
      * @return 生成されたID
      */
     public static ComponentId generate() {
-        return new ComponentId(UUID.randomUUID());
+        return new ComponentId(PREFIX, SEQUENCE.incrementAndGet());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return Long.hashCode(sequence);
     }
 
     @Override
@@ -48,11 +74,11 @@ public final class ComponentId implements Serializable {
             return false;
         }
         final ComponentId other = (ComponentId) obj;
-        return value.equals(other.value);
+        return sequence == other.sequence && prefix == other.prefix;
     }
 
     @Override
     public String toString() {
-        return value.toString();
+        return Long.toHexString(prefix) + "-" + sequence;
     }
 }
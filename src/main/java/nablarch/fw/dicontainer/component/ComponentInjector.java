@@ -0,0 +1,18 @@
+package nablarch.fw.dicontainer.component;
+
+import nablarch.fw.dicontainer.Container;
+
+/**
+ * コンポーネントの生成からインジェクション、初期化までを一度に行うインターフェース。
+ *
+ */
+public interface ComponentInjector {
+
+    /**
+     * コンポーネントを生成し、インジェクションと初期化を行う。
+     * 
+     * @param container DIコンテナ
+     * @return 初期化されたコンポーネント
+     */
+    Object inject(Container container);
+}
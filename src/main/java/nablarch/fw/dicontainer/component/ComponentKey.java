@@ -3,6 +3,7 @@ package nablarch.fw.dicontainer.component;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
@@ -12,11 +13,17 @@ import java.util.stream.Stream;
 
 /**
  * DIコンテナからコンポーネントを取得するときに使用される検索キー。
+ * 
+ * <p>限定子は生成時に{@link QualifierToken}へ正規化し、ハッシュ値はキャッシュする。</p>
  *
  * @param <T> コンポーネントの型
  */
 public final class ComponentKey<T> implements Serializable {
 
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 1L;
     /**
      * コンポーネントのクラス
      */
@@ -24,7 +31,11 @@ public final class ComponentKey<T> implements Serializable {
     /**
      * 限定子
      */
-    private final Set<Annotation> qualifiers;
+    private final Set<QualifierToken> qualifiers;
+    /**
+     * ハッシュ値のキャッシュ。未計算の場合は{@literal 0}
+     */
+    private transient int hash;
 
     /**
      * インスタンスを生成する。
@@ -33,7 +44,8 @@ public final class ComponentKey<T> implements Serializable {
      * @param qualifiers 限定子
      */
     public ComponentKey(final Class<T> componentType, final Annotation... qualifiers) {
-        this(componentType, Arrays.stream(qualifiers).collect(Collectors.toSet()));
+        this.componentType = Objects.requireNonNull(componentType);
+        this.qualifiers = tokenize(Arrays.asList(qualifiers));
     }
 
     /**
@@ -44,7 +56,52 @@ public final class ComponentKey<T> implements Serializable {
      */
     public ComponentKey(final Class<T> componentType, final Set<Annotation> qualifiers) {
         this.componentType = Objects.requireNonNull(componentType);
-        this.qualifiers = Objects.requireNonNull(qualifiers);
+        this.qualifiers = tokenize(Objects.requireNonNull(qualifiers));
+    }
+
+    /**
+     * インスタンスを生成する。
+     * 
+     * @param componentType コンポーネントのクラス
+     * @param qualifier 正規化された限定子
+     */
+    private ComponentKey(final Class<T> componentType, final QualifierToken qualifier) {
+        this.componentType = Objects.requireNonNull(componentType);
+        this.qualifiers = Collections.singleton(qualifier);
+    }
+
+    /**
+     * {@link javax.inject.Named}で限定された検索キーを生成する。
+     * 
+     * <p>アノテーションのインスタンスを生成せずに、
+     * {@code @Named(name)}を限定子に持つ検索キーと等価な検索キーを生成する。</p>
+     * 
+     * @param <T> コンポーネントの型
+     * @param componentType コンポーネントのクラス
+     * @param name 名前
+     * @return 検索キー
+     */
+    public static <T> ComponentKey<T> named(final Class<T> componentType, final String name) {
+        return new ComponentKey<>(componentType, QualifierToken.named(name));
+    }
+
+    /**
+     * 限定子を正規化する。
+     * 
+     * @param qualifiers 限定子
+     * @return 正規化された限定子
+     */
+    private static Set<QualifierToken> tokenize(final Collection<Annotation> qualifiers) {
+        if (qualifiers.isEmpty()) {
+            return Collections.emptySet();
+        } else if (qualifiers.size() == 1) {
+            return Collections.singleton(QualifierToken.of(qualifiers.iterator().next()));
+        }
+        final Set<QualifierToken> tokens = new HashSet<>();
+        for (final Annotation qualifier : qualifiers) {
+            tokens.add(QualifierToken.of(qualifier));
+        }
+        return Collections.unmodifiableSet(tokens);
     }
 
     /**
@@ -111,7 +168,12 @@ public final class ComponentKey<T> implements Serializable {
 
     @Override
     public int hashCode() {
-        return Objects.hash(componentType, qualifiers);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(componentType, qualifiers);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -124,7 +186,8 @@ public final class ComponentKey<T> implements Serializable {
             return false;
         }
         final ComponentKey<?> other = (ComponentKey<?>) obj;
-        return componentType.equals(other.componentType)
+        return hashCode() == other.hashCode()
+                && componentType.equals(other.componentType)
                 && qualifiers.equals(other.qualifiers);
     }
 
@@ -150,7 +213,11 @@ public final class ComponentKey<T> implements Serializable {
         /**
          * 限定子
          */
-        private final Set<Annotation> qualifiers;
+        private final Set<QualifierToken> qualifiers;
+        /**
+         * ハッシュ値
+         */
+        private final int hash;
 
         /**
          * インスタンスを生成する。
@@ -158,14 +225,15 @@ public final class ComponentKey<T> implements Serializable {
          * @param aliasType エイリアスのクラス
          * @param qualifiers 限定子
          */
-        private AliasKey(final Class<?> aliasType, final Set<Annotation> qualifiers) {
+        private AliasKey(final Class<?> aliasType, final Set<QualifierToken> qualifiers) {
             this.aliasType = Objects.requireNonNull(aliasType);
             this.qualifiers = Objects.requireNonNull(qualifiers);
+            this.hash = Objects.hash(aliasType, qualifiers);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(aliasType, qualifiers);
+            return hash;
         }
 
         @Override
@@ -178,7 +246,8 @@ public final class ComponentKey<T> implements Serializable {
                 return false;
             }
             final AliasKey other = (AliasKey) obj;
-            return aliasType.equals(other.aliasType)
+            return hash == other.hash
+                    && aliasType.equals(other.aliasType)
                     && qualifiers.equals(other.qualifiers);
         }
 
@@ -29,7 +29,23 @@ public interface InjectionComponentResolver {
     /**
      * 依存関係の循環を検出するためのバリデーションを行う。
      * 
+     * <p>デフォルト実装では何も行わない。</p>
+     * 
      * @param context 循環依存バリデーションのコンテキスト
+     * @deprecated 依存関係の循環は{@link ContainerBuilder#build()}でまとめて検出するため、このメソッドは呼び出されない
+     */
+    @Deprecated
+    default void validateCycleDependency(CycleDependencyValidationContext context) {
+    }
+
+    /**
+     * 依存コンポーネントのコンポーネント定義を結び付ける。
+     * 
+     * <p>バリデーションが完了した後、DIコンテナの構築時に一度だけ呼び出される。
+     * デフォルト実装では何も行わない。</p>
+     * 
+     * @param containerBuilder DIコンテナのビルダー
      */
-    void validateCycleDependency(CycleDependencyValidationContext context);
+    default void link(ContainerBuilder<?> containerBuilder) {
+    }
 }
@@ -0,0 +1,108 @@
+package nablarch.fw.dicontainer.component;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 構築後に変更されない検索表。
+ *
+ * <p>オープンアドレス法（線形探査）でキーと値を配列に保持する。
+ * キーのハッシュ値を事前に計算して保持しているため、
+ * ハッシュ値が一致しないエントリについては{@link Object#equals(Object)}を呼び出さない。</p>
+ *
+ * @param <K> キーの型
+ * @param <V> 値の型
+ */
+final class LookupTable<K, V> {
+
+    /**
+     * キー
+     */
+    private final Object[] keys;
+    /**
+     * 値
+     */
+    private final Object[] values;
+    /**
+     * キーのハッシュ値
+     */
+    private final int[] hashes;
+    /**
+     * 配列のインデックスを求めるためのマスク
+     */
+    private final int mask;
+
+    /**
+     * マップの内容をもとにインスタンスを生成する。
+     *
+     * @param map マップ
+     */
+    LookupTable(final Map<? extends K, ? extends V> map) {
+        final int capacity = tableSizeFor(map.size());
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.mask = capacity - 1;
+        for (final Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            final Object key = Objects.requireNonNull(entry.getKey());
+            final int hash = hash(key);
+            int i = hash & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            values[i] = entry.getValue();
+            hashes[i] = hash;
+        }
+    }
+
+    /**
+     * キーに対応する値を取得する。
+     *
+     * @param key キー
+     * @return 値。キーが登録されていない場合は{@literal null}
+     */
+    @SuppressWarnings("unchecked")
+    V get(final Object key) {
+        if (key == null) {
+            return null;
+        }
+        final int hash = hash(key);
+        int i = hash & mask;
+        Object k;
+        while ((k = keys[i]) != null) {
+            if (hashes[i] == hash && (k == key || k.equals(key))) {
+                return (V) values[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * キーのハッシュ値を求める。
+     *
+     * @param key キー
+     * @return ハッシュ値
+     */
+    private static int hash(final Object key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * エントリ数から配列の長さを求める。
+     *
+     * <p>探査が長くならないよう、充填率が50%以下となる2の累乗を返す。</p>
+     *
+     * @param size エントリ数
+     * @return 配列の長さ
+     */
+    private static int tableSizeFor(final int size) {
+        int capacity = 2;
+        while (capacity < size * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
@@ -4,18 +4,25 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import nablarch.fw.dicontainer.annotation.ClassInheritances;
 
 /**
  * メソッドを収集するクラス。
+ * 
+ * <p>オーバーライドの判定は、収集したメソッドを名前と引数の型で索引付けして行うため、
+ * メソッド数に比例した時間で収集できる。</p>
  */
 public final class MethodCollector {
 
     /** 集められたメソッド */
     private final List<Method> methods = new ArrayList<>();
+    /** 集められたメソッドのうちprivateでないものの、シグネチャによる索引 */
+    private final Map<Signature, List<Method>> overridables = new HashMap<>();
 
     /**
      * メソッドがオーバーライドメソッドでなければ追加する。
@@ -30,11 +37,14 @@ public final class MethodCollector {
         if (Modifier.isPrivate(method.getModifiers()) == false) {
             final boolean isPackagePrivate = Modifier.isProtected(method.getModifiers()) == false
                     && Modifier.isPublic(method.getModifiers()) == false;
-            for (final Method m : methods) {
+            final List<Method> sameSignatures = overridables
+                    .computeIfAbsent(new Signature(method), key -> new ArrayList<>(1));
+            for (final Method m : sameSignatures) {
                 if (isOverridden(method, m, isPackagePrivate)) {
                     return;
                 }
             }
+            sameSignatures.add(method);
         }
 
         methods.add(method);
@@ -60,6 +70,9 @@ public final class MethodCollector {
 
     /**
      * オーバーライドメソッドであるか判定する。
+     * 
+     * <p>比較対象のメソッドは、比較元と同じシグネチャを持つprivateでないメソッドであること。</p>
+     * 
      * @param self 比較元となるメソッド
      * @param other 比較対象のメソッド
      * @param isPackagePrivate メソッドがパッケージプライベートかどうか
@@ -69,12 +82,6 @@ public final class MethodCollector {
             final boolean isPackagePrivate) {
         if (self.getDeclaringClass() == other.getDeclaringClass()) {
             return false;
-        } else if (Modifier.isPrivate(other.getModifiers())) {
-            return false;
-        } else if (self.getName().equals(other.getName()) == false) {
-            return false;
-        } else if (Arrays.equals(self.getParameterTypes(), other.getParameterTypes()) == false) {
-            return false;
         } else if (isPackagePrivate && Objects.equals(self.getDeclaringClass().getPackage(),
                 other.getDeclaringClass().getPackage()) == false) {
             return false;
@@ -104,4 +111,41 @@ public final class MethodCollector {
         }
         return methodCollector;
     }
+
+    /**
+     * メソッドの名前と引数の型からなるシグネチャ。
+     */
+    private static final class Signature {
+
+        /** メソッド名 */
+        private final String name;
+        /** 引数の型 */
+        private final Class<?>[] parameterTypes;
+        /** ハッシュ値 */
+        private final int hash;
+
+        /**
+         * インスタンスを生成する。
+         * @param method メソッド
+         */
+        Signature(final Method method) {
+            this.name = method.getName();
+            this.parameterTypes = method.getParameterTypes();
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj instanceof Signature == false) {
+                return false;
+            }
+            final Signature other = (Signature) obj;
+            return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
@@ -0,0 +1,155 @@
+package nablarch.fw.dicontainer.component;
+
+import java.io.Serializable;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import javax.inject.Named;
+
+/**
+ * 限定子を正規化したトークン。
+ *
+ * <p>アノテーションの型と要素の値を検索キーの生成時に一度だけ取り出して保持する。
+ * JDKが生成するアノテーションのプロキシは、{@link Object#hashCode()}や{@link Object#equals(Object)}の
+ * 呼び出しのたびにすべての要素をリフレクションで取得するため、
+ * 検索キーではアノテーションの代わりにこのトークンを比較する。</p>
+ *
+ */
+final class QualifierToken implements Serializable {
+
+    /**
+     * シリアルバージョンUID
+     */
+    private static final long serialVersionUID = 1L;
+    /**
+     * アノテーションの型ごとの、名前順に並べた要素
+     */
+    private static final ClassValue<Method[]> MEMBERS = new ClassValue<Method[]>() {
+        @Override
+        protected Method[] computeValue(final Class<?> type) {
+            final Method[] members = type.getDeclaredMethods();
+            Arrays.sort(members, Comparator.comparing(Method::getName));
+            for (final Method member : members) {
+                member.setAccessible(true);
+            }
+            return members;
+        }
+    };
+    /**
+     * {@link Named}の要素名
+     */
+    private static final String[] NAMED_MEMBER_NAMES = { "value" };
+
+    /**
+     * アノテーションの型
+     */
+    private final Class<? extends Annotation> annotationType;
+    /**
+     * 要素名（名前順）
+     */
+    private final String[] names;
+    /**
+     * 要素の値（要素名と同じ順）
+     */
+    private final Object[] values;
+    /**
+     * ハッシュ値のキャッシュ。未計算の場合は{@literal 0}
+     */
+    private transient int hash;
+
+    /**
+     * インスタンスを生成する。
+     *
+     * @param annotationType アノテーションの型
+     * @param names 要素名
+     * @param values 要素の値
+     */
+    private QualifierToken(final Class<? extends Annotation> annotationType, final String[] names,
+            final Object[] values) {
+        this.annotationType = annotationType;
+        this.names = names;
+        this.values = values;
+    }
+
+    /**
+     * アノテーションからトークンを生成する。
+     *
+     * @param qualifier 限定子
+     * @return トークン
+     */
+    static QualifierToken of(final Annotation qualifier) {
+        Objects.requireNonNull(qualifier);
+        if (qualifier instanceof Named) {
+            return named(((Named) qualifier).value());
+        }
+        final Class<? extends Annotation> annotationType = qualifier.annotationType();
+        final Method[] members = MEMBERS.get(annotationType);
+        final String[] names = new String[members.length];
+        final Object[] values = new Object[members.length];
+        for (int i = 0; i < members.length; i++) {
+            names[i] = members[i].getName();
+            try {
+                values[i] = members[i].invoke(qualifier);
+            } catch (final IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalArgumentException(
+                        "Could not read member [" + names[i] + "] of qualifier [" + qualifier + "]",
+                        e);
+            }
+        }
+        return new QualifierToken(annotationType, names, values);
+    }
+
+    /**
+     * {@link Named}のトークンを生成する。
+     *
+     * @param name 名前
+     * @return トークン
+     */
+    static QualifierToken named(final String name) {
+        return new QualifierToken(Named.class, NAMED_MEMBER_NAMES,
+                new Object[] { Objects.requireNonNull(name) });
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = 31 * annotationType.hashCode() + Arrays.deepHashCode(values);
+            hash = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        } else if (obj == null) {
+            return false;
+        } else if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final QualifierToken other = (QualifierToken) obj;
+        return annotationType == other.annotationType
+                && Arrays.deepEquals(values, other.values);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder buf = new StringBuilder("@").append(annotationType.getName())
+                .append('(');
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                buf.append(", ");
+            }
+            // 配列の要素も文字列にするため、配列で包んでから外側の括弧を取り除く
+            final String value = Arrays.deepToString(new Object[] { values[i] });
+            buf.append(names[i]).append('=').append(value, 1, value.length() - 1);
+        }
+        return buf.append(')').toString();
+    }
+}
@@ -0,0 +1,27 @@
+package nablarch.fw.dicontainer.component.factory;
+
+import java.util.List;
+import java.util.Optional;
+
+import nablarch.fw.dicontainer.component.ComponentInjector;
+import nablarch.fw.dicontainer.component.InitMethod;
+import nablarch.fw.dicontainer.component.InjectableConstructor;
+import nablarch.fw.dicontainer.component.InjectableMember;
+
+/**
+ * {@link ComponentInjector}を生成するファクトリ。
+ *
+ */
+public interface ComponentInjectorFactory {
+
+    /**
+     * コンポーネント定義の構成要素から{@link ComponentInjector}を生成する。
+     * 
+     * @param injectableConstructor コンポーネントを生成するコンストラクタ・プロバイダ
+     * @param injectableMembers インジェクションされるメソッド・フィールド
+     * @param initMethod 初期化メソッド
+     * @return {@link ComponentInjector}。生成できない構成要素を含む場合は空
+     */
+    Optional<ComponentInjector> create(InjectableConstructor injectableConstructor,
+            List<InjectableMember> injectableMembers, InitMethod initMethod);
+}
@@ -4,7 +4,6 @@ import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.InjectableConstructor;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 
 /**
  *  インジェクションされるコンストラクタを表す{@link InjectableConstructor}実装クラス。
@@ -21,8 +20,4 @@ public final class ContainerInjectableConstructor implements InjectableConstruct
     public void validate(final ContainerBuilder<?> containerBuilder,
             final ComponentDefinition<?> self) {
     }
-
-    @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-    }
 }
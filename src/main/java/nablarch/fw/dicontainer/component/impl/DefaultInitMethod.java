@@ -24,6 +24,14 @@ public final class DefaultInitMethod implements InitMethod {
         this.method = new MethodWrapper(method);
     }
 
+    /**
+     * 初期化メソッドを取得する。
+     * @return 初期化メソッド
+     */
+    MethodWrapper getMethod() {
+        return method;
+    }
+
     @Override
     public void invoke(final Object component) {
         method.invoke(component);
@@ -8,7 +8,6 @@ import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.InjectableConstructor;
 import nablarch.fw.dicontainer.component.impl.reflect.ConstructorWrapper;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 
 /**
  * {@link InjectableConstructor}のデフォルト実装クラス。
@@ -32,6 +31,22 @@ public final class DefaultInjectableConstructor implements InjectableConstructor
         this.resolvers = Objects.requireNonNull(resolvers);
     }
 
+    /**
+     * コンストラクタを取得する。
+     * @return コンストラクタ
+     */
+    ConstructorWrapper getConstructor() {
+        return constructor;
+    }
+
+    /**
+     * コンポーネント解決クラスを取得する。
+     * @return コンポーネント解決クラス
+     */
+    InjectionComponentResolvers getResolvers() {
+        return resolvers;
+    }
+
     @Override
     public Object inject(final Container container) {
         final Object[] args = resolvers.resolve(container);
@@ -45,7 +60,7 @@ public final class DefaultInjectableConstructor implements InjectableConstructor
     }
 
     @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        resolvers.validateCycleDependency(context);
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        resolvers.link(containerBuilder);
     }
 }
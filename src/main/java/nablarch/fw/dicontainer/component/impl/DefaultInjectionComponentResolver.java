@@ -14,7 +14,6 @@ import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.ComponentKey;
 import nablarch.fw.dicontainer.component.InjectionComponentResolver;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.exception.InjectionComponentDuplicatedException;
 import nablarch.fw.dicontainer.exception.InjectionComponentNotFoundException;
 import nablarch.fw.dicontainer.exception.InvalidInjectionScopeException;
@@ -30,8 +29,20 @@ public final class DefaultInjectionComponentResolver implements InjectionCompone
     /** {@link Provider}を使用するかどうか */
     private final boolean provider;
 
+    /** インジェクション箇所の名前（エラーメッセージに使用する） */
+    private final String sourceName;
 
-    private final Member source;
+    /**
+     * DIコンテナの構築時に結び付けられた依存コンポーネントのコンポーネント定義。
+     * 結び付けられていない場合は{@literal null}。
+     */
+    private volatile ComponentDefinition<?> definition;
+
+    /**
+     * 直近に使用したDIコンテナに対する{@link Provider}。
+     * インジェクションのたびに{@link Provider}を生成しないよう保持している。
+     */
+    private volatile InjectionProvider injectionProvider;
 
     /**
      * コンストラクタ。
@@ -41,7 +52,22 @@ public final class DefaultInjectionComponentResolver implements InjectionCompone
      */
     public DefaultInjectionComponentResolver(final Member source, final ComponentKey<?> key,
             final boolean provider) {
-        this.source = source;
+        this(sourceName(source), key, provider);
+    }
+
+    /**
+     * コンストラクタ。
+     * 
+     * <p>アノテーションプロセッサが生成したコードから、
+     * リフレクションを使用せずにインスタンスを生成するために使用する。</p>
+     * 
+     * @param sourceName インジェクション箇所の名前（{@code クラス名.メンバー名}）
+     * @param key コンポーネント検索キー
+     * @param provider {@link Provider}を使用するかどうか
+     */
+    public DefaultInjectionComponentResolver(final String sourceName, final ComponentKey<?> key,
+            final boolean provider) {
+        this.sourceName = sourceName;
         this.key = Objects.requireNonNull(key);
         this.provider = provider;
     }
@@ -49,23 +75,50 @@ public final class DefaultInjectionComponentResolver implements InjectionCompone
     @Override
     public Object resolve(final Container container) {
         if (provider) {
-            return new Provider<Object>() {
-                @Override
-                public Object get() {
-                    return container.getComponent(key);
-                }
-            };
+            InjectionProvider injectionProvider = this.injectionProvider;
+            if (injectionProvider == null || injectionProvider.container != container) {
+                injectionProvider = new InjectionProvider(container);
+                this.injectionProvider = injectionProvider;
+            }
+            return injectionProvider;
+        }
+        return get(container);
+    }
+
+    /**
+     * 依存コンポーネントを取得する。
+     * 
+     * <p>コンポーネント定義が結び付けられている場合は、検索キーによる検索を行わずに取得する。</p>
+     * 
+     * @param container DIコンテナ
+     * @return 依存コンポーネント
+     */
+    private Object get(final Container container) {
+        final ComponentDefinition<?> definition = this.definition;
+        if (definition != null) {
+            return definition.getComponent(container);
         }
         return container.getComponent(key);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>検索キーに対応するコンポーネント定義が1つに決まらない場合は、結び付けを解除して検索キーによる検索に戻す。</p>
+     */
+    @Override
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        final Set<ComponentDefinition<?>> definitions = containerBuilder
+                .findComponentDefinitions(key);
+        this.definition = definitions.size() == 1 ? definitions.iterator().next() : null;
+    }
+
     @Override
     public void validate(final ContainerBuilder<?> containerBuilder,
             final ComponentDefinition<?> self) {
         final Set<ComponentDefinition<?>> definitions = containerBuilder
                 .findComponentDefinitions(key);
         if (definitions.isEmpty()) {
-            String sourceName = sourceName();
             containerBuilder.addError(new InjectionComponentNotFoundException(
                     "Injection component not found at " + sourceName + ": key=" + key));
         } else if (definitions.size() > 1) {
@@ -83,7 +136,13 @@ public final class DefaultInjectionComponentResolver implements InjectionCompone
         }
     }
 
-    private String sourceName() {
+    /**
+     * インジェクション箇所の名前を取得する。
+     * 
+     * @param source メンバー
+     * @return インジェクション箇所の名前
+     */
+    private static String sourceName(final Member source) {
         Class<?> declaringClass = source.getDeclaringClass();
         String className = declaringClass.getName();
         String memberName;
@@ -96,10 +155,29 @@ public final class DefaultInjectionComponentResolver implements InjectionCompone
         return className + "." + memberName;
     }
 
-    @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        if (provider == false) {
-            context.validateCycleDependency(key);
+    /**
+     * 依存コンポーネントを取得する{@link Provider}実装クラス。
+     *
+     */
+    private final class InjectionProvider implements Provider<Object> {
+
+        /**
+         * DIコンテナ
+         */
+        private final Container container;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param container DIコンテナ
+         */
+        InjectionProvider(final Container container) {
+            this.container = container;
+        }
+
+        @Override
+        public Object get() {
+            return DefaultInjectionComponentResolver.this.get(container);
         }
     }
 }
@@ -12,6 +12,8 @@ import nablarch.fw.dicontainer.exception.ContainerException;
 
 /**
  * {@link ErrorCollector}実装クラス。
+ * 
+ * <p>複数のスレッドから同時に呼び出せる。</p>
  */
 public final class ErrorCollectorImpl implements ErrorCollector {
 
@@ -22,17 +24,17 @@ public final class ErrorCollectorImpl implements ErrorCollector {
     private final Set<Class<? extends ContainerException>> ignoreExceptionClasses = new HashSet<>();
 
     @Override
-    public void add(final ContainerException exception) {
+    public synchronized void add(final ContainerException exception) {
         exceptions.add(exception);
     }
 
     @Override
-    public void ignore(final Class<? extends ContainerException> ignoreMe) {
+    public synchronized void ignore(final Class<? extends ContainerException> ignoreMe) {
         ignoreExceptionClasses.add(ignoreMe);
     }
 
     @Override
-    public void throwExceptionIfExistsError() {
+    public synchronized void throwExceptionIfExistsError() {
         final List<ContainerException> filtered = exceptions.stream()
                 .filter(a -> ignoreExceptionClasses.contains(a.getClass()) == false)
                 .collect(Collectors.toList());
@@ -0,0 +1,242 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.component.ComponentInjector;
+import nablarch.fw.dicontainer.component.InitMethod;
+import nablarch.fw.dicontainer.component.InjectableConstructor;
+import nablarch.fw.dicontainer.component.InjectableMember;
+import nablarch.fw.dicontainer.component.InjectionComponentResolver;
+import nablarch.fw.dicontainer.component.factory.ComponentInjectorFactory;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+/**
+ * コンポーネント定義ごとに専用の{@link ComponentInjector}を生成するファクトリ。
+ *
+ * <p>コンストラクタの呼び出し、フィールド・メソッドへのインジェクション、初期化メソッドの呼び出しを、
+ * 依存コンポーネントの解決も含めて一つの{@link MethodHandle}に合成する。
+ * 合成された{@link MethodHandle}はJVMによってバイトコードへ変換されるため、
+ * 構成要素のリストを走査して多態的に呼び出すよりも、コンポーネントの生成全体がJITコンパイラでインライン化されやすい。</p>
+ *
+ * <p>{@link DefaultInjectableConstructor}、{@link InjectableField}、{@link InjectableMethod}、
+ * {@link DefaultInitMethod}、{@link NoopInitMethod}以外の構成要素を含むコンポーネント定義に対しては生成しない。</p>
+ *
+ */
+public final class GeneratedComponentInjectorFactory implements ComponentInjectorFactory {
+
+    /**
+     * {@link InjectionComponentResolver#resolve(Container)}のハンドル
+     */
+    private static final MethodHandle RESOLVE;
+    /**
+     * 例外を{@link ReflectionException}でラップしてスローするハンドル
+     */
+    private static final MethodHandle RETHROW;
+
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            RESOLVE = lookup.findVirtual(InjectionComponentResolver.class, "resolve",
+                    MethodType.methodType(Object.class, Container.class));
+            RETHROW = lookup.findStatic(GeneratedComponentInjectorFactory.class, "rethrow",
+                    MethodType.methodType(Object.class, Throwable.class));
+        } catch (final ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    @Override
+    public Optional<ComponentInjector> create(final InjectableConstructor injectableConstructor,
+            final List<InjectableMember> injectableMembers, final InitMethod initMethod) {
+        if (injectableConstructor instanceof DefaultInjectableConstructor == false) {
+            return Optional.empty();
+        }
+        try {
+            final List<MethodHandle> steps = new ArrayList<>();
+            for (final InjectableMember injectableMember : injectableMembers) {
+                if (injectableMember instanceof InjectableField
+                        && ((InjectableField) injectableMember).getField().isStatic() == false) {
+                    steps.add(fieldStep((InjectableField) injectableMember));
+                } else if (injectableMember instanceof InjectableMethod
+                        && ((InjectableMethod) injectableMember).getMethod().isStatic() == false) {
+                    steps.add(methodStep((InjectableMethod) injectableMember));
+                } else {
+                    return Optional.empty();
+                }
+            }
+            if (initMethod instanceof DefaultInitMethod
+                    && ((DefaultInitMethod) initMethod).getMethod().isStatic() == false) {
+                steps.add(initStep((DefaultInitMethod) initMethod));
+            } else if (initMethod instanceof NoopInitMethod == false) {
+                return Optional.empty();
+            }
+
+            final MethodHandle constructor = constructorStep(
+                    (DefaultInjectableConstructor) injectableConstructor);
+            // (Object, Container)Object: 各ステップを順に実行してコンポーネントを返す
+            MethodHandle members = MethodHandles.dropArguments(
+                    MethodHandles.identity(Object.class), 1, Container.class);
+            for (int i = steps.size() - 1; i >= 0; i--) {
+                members = MethodHandles.foldArguments(members, steps.get(i));
+            }
+            final MethodHandle injector = MethodHandles.permuteArguments(
+                    MethodHandles.filterArguments(members, 0, constructor),
+                    MethodType.methodType(Object.class, Container.class), 0, 0);
+            return Optional.of(new GeneratedComponentInjector(injector));
+        } catch (final ReflectionException e) {
+            // ハンドルへ変換できなかった場合は、従来の方法で生成した際に例外を通知する
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * コンストラクタを呼び出すハンドルを生成する。
+     *
+     * @param injectableConstructor コンストラクタ
+     * @return {@code (Container)Object}型のハンドル
+     */
+    private static MethodHandle constructorStep(
+            final DefaultInjectableConstructor injectableConstructor) {
+        final MethodHandle direct = injectableConstructor.getConstructor().getMethodHandle();
+        final MethodHandle generic = guard(direct).asType(direct.type().generic());
+        return bindResolvers(generic, 0, injectableConstructor.getResolvers().toArray());
+    }
+
+    /**
+     * フィールドへインジェクションするハンドルを生成する。
+     *
+     * @param injectableField フィールド
+     * @return {@code (Object, Container)void}型のハンドル
+     */
+    private static MethodHandle fieldStep(final InjectableField injectableField) {
+        final MethodHandle direct = injectableField.getField().getMethodHandle();
+        final MethodHandle generic = guard(direct).asType(
+                MethodType.methodType(void.class, Object.class, Object.class));
+        return bindResolvers(generic, 1,
+                new InjectionComponentResolver[] { injectableField.getResolver() });
+    }
+
+    /**
+     * メソッドへインジェクションするハンドルを生成する。
+     *
+     * @param injectableMethod メソッド
+     * @return {@code (Object, Container)void}型のハンドル
+     */
+    private static MethodHandle methodStep(final InjectableMethod injectableMethod) {
+        final MethodHandle direct = injectableMethod.getMethod().getMethodHandle();
+        final MethodHandle generic = guard(direct).asType(
+                direct.type().generic().changeReturnType(void.class));
+        return bindResolvers(generic, 1, injectableMethod.getResolvers().toArray());
+    }
+
+    /**
+     * 初期化メソッドを呼び出すハンドルを生成する。
+     *
+     * @param initMethod 初期化メソッド
+     * @return {@code (Object, Container)void}型のハンドル
+     */
+    private static MethodHandle initStep(final DefaultInitMethod initMethod) {
+        final MethodHandle direct = initMethod.getMethod().getMethodHandle();
+        final MethodHandle generic = guard(direct).asType(
+                MethodType.methodType(void.class, Object.class));
+        return MethodHandles.dropArguments(generic, 1, Container.class);
+    }
+
+    /**
+     * ハンドルの引数のうち、依存コンポーネントを受け取る引数を、
+     * リゾルバで依存コンポーネントを解決する一つの{@link Container}型の引数に置き換える。
+     *
+     * @param target 対象のハンドル
+     * @param pos 依存コンポーネントを受け取る最初の引数の位置
+     * @param resolvers 依存コンポーネントのリゾルバ
+     * @return 置き換えたハンドル
+     */
+    private static MethodHandle bindResolvers(final MethodHandle target, final int pos,
+            final InjectionComponentResolver[] resolvers) {
+        if (resolvers.length == 0) {
+            return MethodHandles.dropArguments(target, pos, Container.class);
+        }
+        final MethodHandle[] filters = new MethodHandle[resolvers.length];
+        for (int i = 0; i < resolvers.length; i++) {
+            filters[i] = RESOLVE.bindTo(resolvers[i]);
+        }
+        final MethodHandle filtered = MethodHandles.filterArguments(target, pos, filters);
+        final MethodType newType = target.type()
+                .dropParameterTypes(pos, pos + resolvers.length)
+                .insertParameterTypes(pos, Container.class);
+        final int[] reorder = new int[filtered.type().parameterCount()];
+        for (int i = 0; i < reorder.length; i++) {
+            if (i < pos) {
+                reorder[i] = i;
+            } else if (i < pos + resolvers.length) {
+                reorder[i] = pos;
+            } else {
+                reorder[i] = i - resolvers.length + 1;
+            }
+        }
+        return MethodHandles.permuteArguments(filtered, newType, reorder);
+    }
+
+    /**
+     * ハンドルがスローした例外を{@link ReflectionException}でラップするハンドルを生成する。
+     *
+     * @param target 対象のハンドル
+     * @return 例外をラップするハンドル
+     */
+    private static MethodHandle guard(final MethodHandle target) {
+        final MethodType type = target.type();
+        final MethodHandle handler = MethodHandles.dropArguments(
+                RETHROW.asType(MethodType.methodType(type.returnType(), Throwable.class)),
+                1, type.parameterList());
+        return MethodHandles.catchException(target, Throwable.class, handler);
+    }
+
+    /**
+     * 例外を{@link ReflectionException}でラップしてスローする。
+     *
+     * @param t 例外
+     * @return 戻ることはない
+     */
+    private static Object rethrow(final Throwable t) {
+        throw new ReflectionException(t);
+    }
+
+    /**
+     * 合成したハンドルを呼び出す{@link ComponentInjector}実装クラス。
+     *
+     */
+    private static final class GeneratedComponentInjector implements ComponentInjector {
+
+        /**
+         * {@code (Container)Object}型のハンドル
+         */
+        private final MethodHandle handle;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param handle {@code (Container)Object}型のハンドル
+         */
+        GeneratedComponentInjector(final MethodHandle handle) {
+            this.handle = Objects.requireNonNull(handle);
+        }
+
+        @Override
+        public Object inject(final Container container) {
+            try {
+                return (Object) handle.invokeExact(container);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable t) {
+                throw new ReflectionException(t);
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import java.util.Objects;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.InjectableConstructor;
+import nablarch.fw.dicontainer.container.ContainerBuilder;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+/**
+ * アノテーションプロセッサが生成したコードでコンポーネントを生成する{@link InjectableConstructor}実装クラス。
+ *
+ * <p>コンストラクタの呼び出しはリフレクションを使用せず、生成されたコードが直接行う。</p>
+ */
+public final class GeneratedInjectableConstructor implements InjectableConstructor {
+
+    /** コンストラクタを呼び出す処理 */
+    private final Instantiator instantiator;
+
+    /** コンポーネント解決クラス */
+    private final InjectionComponentResolvers resolvers;
+
+    /**
+     * コンストラクタ。
+     * @param instantiator コンストラクタを呼び出す処理
+     * @param resolvers コンポーネント解決クラス
+     */
+    public GeneratedInjectableConstructor(final Instantiator instantiator,
+            final InjectionComponentResolvers resolvers) {
+        this.instantiator = Objects.requireNonNull(instantiator);
+        this.resolvers = Objects.requireNonNull(resolvers);
+    }
+
+    @Override
+    public Object inject(final Container container) {
+        final Object[] args = resolvers.resolve(container);
+        try {
+            return instantiator.newInstance(args);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
+        }
+    }
+
+    @Override
+    public void validate(final ContainerBuilder<?> containerBuilder,
+            final ComponentDefinition<?> self) {
+        resolvers.validate(containerBuilder, self);
+    }
+
+    @Override
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        resolvers.link(containerBuilder);
+    }
+
+    /**
+     * コンストラクタを呼び出す処理を表すインターフェース。
+     */
+    @FunctionalInterface
+    public interface Instantiator {
+
+        /**
+         * コンストラクタを呼び出す。
+         * @param args 依存コンポーネント
+         * @return 生成されたコンポーネント
+         * @throws Throwable コンストラクタがスローした例外
+         */
+        Object newInstance(Object[] args) throws Throwable;
+    }
+}
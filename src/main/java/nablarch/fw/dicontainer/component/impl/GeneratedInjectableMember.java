@@ -0,0 +1,72 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import java.util.Objects;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.InjectableMember;
+import nablarch.fw.dicontainer.container.ContainerBuilder;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+/**
+ * アノテーションプロセッサが生成したコードでインジェクションを行う{@link InjectableMember}実装クラス。
+ *
+ * <p>フィールドへの代入やメソッドの呼び出しはリフレクションを使用せず、生成されたコードが直接行う。
+ * フィールドの場合、コンポーネント解決クラスは一つだけ保持する。</p>
+ */
+public final class GeneratedInjectableMember implements InjectableMember {
+
+    /** インジェクションを行う処理 */
+    private final Injector injector;
+
+    /** コンポーネント解決クラス */
+    private final InjectionComponentResolvers resolvers;
+
+    /**
+     * コンストラクタ。
+     * @param injector インジェクションを行う処理
+     * @param resolvers コンポーネント解決クラス
+     */
+    public GeneratedInjectableMember(final Injector injector,
+            final InjectionComponentResolvers resolvers) {
+        this.injector = Objects.requireNonNull(injector);
+        this.resolvers = Objects.requireNonNull(resolvers);
+    }
+
+    @Override
+    public Object inject(final Container container, final Object component) {
+        final Object[] args = resolvers.resolve(container);
+        try {
+            injector.inject(component, args);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
+        }
+        return null;
+    }
+
+    @Override
+    public void validate(final ContainerBuilder<?> containerBuilder,
+            final ComponentDefinition<?> self) {
+        resolvers.validate(containerBuilder, self);
+    }
+
+    @Override
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        resolvers.link(containerBuilder);
+    }
+
+    /**
+     * インジェクションを行う処理を表すインターフェース。
+     */
+    @FunctionalInterface
+    public interface Injector {
+
+        /**
+         * インジェクションを行う。
+         * @param component インジェクション対象のコンポーネント
+         * @param args 依存コンポーネント
+         * @throws Throwable メソッドがスローした例外
+         */
+        void inject(Object component, Object[] args) throws Throwable;
+    }
+}
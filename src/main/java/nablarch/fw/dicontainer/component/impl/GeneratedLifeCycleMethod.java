@@ -0,0 +1,57 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import java.util.Objects;
+
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.DestroyMethod;
+import nablarch.fw.dicontainer.component.InitMethod;
+import nablarch.fw.dicontainer.container.ContainerBuilder;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+/**
+ * アノテーションプロセッサが生成したコードでライフサイクルメソッドを呼び出す
+ * {@link InitMethod}、{@link DestroyMethod}実装クラス。
+ *
+ * <p>メソッドのシグネチャはコンパイル時に検証済みのため、バリデーションでは何もしない。</p>
+ */
+public final class GeneratedLifeCycleMethod implements InitMethod, DestroyMethod {
+
+    /** ライフサイクルメソッドを呼び出す処理 */
+    private final Invoker invoker;
+
+    /**
+     * コンストラクタ。
+     * @param invoker ライフサイクルメソッドを呼び出す処理
+     */
+    public GeneratedLifeCycleMethod(final Invoker invoker) {
+        this.invoker = Objects.requireNonNull(invoker);
+    }
+
+    @Override
+    public void invoke(final Object component) {
+        try {
+            invoker.invoke(component);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
+        }
+    }
+
+    @Override
+    public void validate(final ContainerBuilder<?> containerBuilder,
+            final ComponentDefinition<?> self) {
+    }
+
+    /**
+     * ライフサイクルメソッドを呼び出す処理を表すインターフェース。
+     */
+    @FunctionalInterface
+    public interface Invoker {
+
+        /**
+         * ライフサイクルメソッドを呼び出す。
+         * @param component メソッドが実行されるコンポーネント
+         * @throws Throwable メソッドがスローした例外
+         */
+        void invoke(Object component) throws Throwable;
+    }
+}
@@ -0,0 +1,66 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import java.util.Objects;
+
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.ObservesMethod;
+import nablarch.fw.dicontainer.container.ContainerBuilder;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+/**
+ * アノテーションプロセッサが生成したコードでイベントをハンドリングする{@link ObservesMethod}実装クラス。
+ *
+ * <p>メソッドのシグネチャはコンパイル時に検証済みのため、バリデーションでは何もしない。</p>
+ */
+public final class GeneratedObservesMethod implements ObservesMethod {
+
+    /** ハンドリング対象のイベントの型 */
+    private final Class<?> eventType;
+
+    /** イベントをハンドリングする処理 */
+    private final Handler handler;
+
+    /**
+     * コンストラクタ。
+     * @param eventType ハンドリング対象のイベントの型
+     * @param handler イベントをハンドリングする処理
+     */
+    public GeneratedObservesMethod(final Class<?> eventType, final Handler handler) {
+        this.eventType = Objects.requireNonNull(eventType);
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    @Override
+    public boolean isTarget(final Object event) {
+        return eventType.isAssignableFrom(event.getClass());
+    }
+
+    @Override
+    public void invoke(final Object component, final Object event) {
+        try {
+            handler.handle(component, event);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
+        }
+    }
+
+    @Override
+    public void validate(final ContainerBuilder<?> containerBuilder,
+            final ComponentDefinition<?> self) {
+    }
+
+    /**
+     * イベントをハンドリングする処理を表すインターフェース。
+     */
+    @FunctionalInterface
+    public interface Handler {
+
+        /**
+         * イベントをハンドリングする。
+         * @param component メソッドが実行されるコンポーネント
+         * @param event イベント
+         * @throws Throwable メソッドがスローした例外
+         */
+        void handle(Object component, Object event) throws Throwable;
+    }
+}
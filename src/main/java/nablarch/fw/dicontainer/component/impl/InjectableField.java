@@ -9,7 +9,6 @@ import nablarch.fw.dicontainer.component.InjectableMember;
 import nablarch.fw.dicontainer.component.InjectionComponentResolver;
 import nablarch.fw.dicontainer.component.impl.reflect.FieldWrapper;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.exception.StaticInjectionException;
 
 /**
@@ -33,6 +32,22 @@ public final class InjectableField implements InjectableMember {
         this.resolver = Objects.requireNonNull(resolver);
     }
 
+    /**
+     * フィールドを取得する。
+     * @return フィールド
+     */
+    FieldWrapper getField() {
+        return field;
+    }
+
+    /**
+     * コンポーネント解決クラスを取得する。
+     * @return コンポーネント解決クラス
+     */
+    InjectionComponentResolver getResolver() {
+        return resolver;
+    }
+
     @Override
     public Object inject(final Container container, final Object component) {
         final Object value = resolver.resolve(container);
@@ -52,7 +67,7 @@ public final class InjectableField implements InjectableMember {
     }
 
     @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        resolver.validateCycleDependency(context);
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        resolver.link(containerBuilder);
     }
 }
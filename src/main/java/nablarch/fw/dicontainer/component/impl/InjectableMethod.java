@@ -8,7 +8,6 @@ import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.InjectableMember;
 import nablarch.fw.dicontainer.component.impl.reflect.MethodWrapper;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.exception.StaticInjectionException;
 
 /**
@@ -32,6 +31,22 @@ public final class InjectableMethod implements InjectableMember {
         this.resolvers = Objects.requireNonNull(resolvers);
     }
 
+    /**
+     * メソッドを取得する。
+     * @return メソッド
+     */
+    MethodWrapper getMethod() {
+        return method;
+    }
+
+    /**
+     * コンポーネント解決クラスを取得する。
+     * @return コンポーネント解決クラス
+     */
+    InjectionComponentResolvers getResolvers() {
+        return resolvers;
+    }
+
     @Override
     public Object inject(final Container container, final Object component) {
         final Object[] args = resolvers.resolve(container);
@@ -50,7 +65,7 @@ public final class InjectableMethod implements InjectableMember {
     }
 
     @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        resolvers.validateCycleDependency(context);
+    public void link(final ContainerBuilder<?> containerBuilder) {
+        resolvers.link(containerBuilder);
     }
 }
@@ -34,6 +34,15 @@ public final class InjectionComponentResolvers {
         return new InjectionComponentResolvers(Collections.emptyList());
     }
 
+    /**
+     * 自身が持つ{@link InjectionComponentResolver}を配列で取得する。
+     *
+     * @return {@link InjectionComponentResolver}の配列
+     */
+    InjectionComponentResolver[] toArray() {
+        return resolvers.toArray(new InjectionComponentResolver[0]);
+    }
+
     /**
      * 自身が持つ{@link InjectionComponentResolver}を使ってコンポーネントの解決を行う。
      *
@@ -41,7 +50,11 @@ public final class InjectionComponentResolvers {
      * @return 解決されたコンポーネント
      */
     public Object[] resolve(final Container container) {
-        return resolvers.stream().map(resolver -> resolver.resolve(container)).toArray();
+        final Object[] args = new Object[resolvers.size()];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = resolvers.get(i).resolve(container);
+        }
+        return args;
     }
 
     /**
@@ -58,11 +71,23 @@ public final class InjectionComponentResolvers {
 
     /**
      * 自身が持つ{@link InjectionComponentResolver}を使って依存関係の循環を検出する。
+     * 
+     * <p>何も行わない。</p>
+     * 
      * @param context 循環依存バリデーションのコンテキスト
+     * @deprecated 依存関係の循環は{@link ContainerBuilder#build()}でまとめて検出するため、このメソッドは呼び出されない
      */
+    @Deprecated
     public void validateCycleDependency(final CycleDependencyValidationContext context) {
+    }
+
+    /**
+     * 自身が持つ{@link InjectionComponentResolver}に依存コンポーネントのコンポーネント定義を結び付ける。
+     * @param containerBuilder DIコンテナのビルダー
+     */
+    public void link(final ContainerBuilder<?> containerBuilder) {
         for (final InjectionComponentResolver resolver : resolvers) {
-            resolver.validateCycleDependency(context.createSubContext());
+            resolver.link(containerBuilder);
         }
     }
 }
@@ -6,7 +6,6 @@ import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.InjectableConstructor;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 
 /**
  * 格納したインスタンスをそのまま返却する{@link InjectableConstructor}実装クラス。
@@ -34,8 +33,4 @@ public final class PassthroughInjectableConstructor implements InjectableConstru
     public void validate(final ContainerBuilder<?> containerBuilder,
             final ComponentDefinition<?> self) {
     }
-
-    @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-    }
 }
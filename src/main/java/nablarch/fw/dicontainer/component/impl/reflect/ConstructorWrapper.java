@@ -1,24 +1,66 @@
 package nablarch.fw.dicontainer.component.impl.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
 
 import nablarch.fw.dicontainer.exception.ReflectionException;
 
 /**
  * {@link Constructor}のラッパークラス。
+ * 
+ * <p>インスタンス生成時に{@link MethodHandle}へ変換しておき、
+ * 呼び出しのたびにアクセスチェックや型変換の準備を行わない。</p>
  */
 public final class ConstructorWrapper {
-    /** ラップ対象のコンストラクタ */
-    private final Constructor<?> constructor;
+    /** コンストラクタから変換したハンドル */
+    private final MethodHandle direct;
+    /** インスタンスを生成するハンドル。型は{@code (Object[])Object} */
+    private final MethodHandle handle;
+    /** ハンドルへの変換に失敗した場合の例外。変換に成功した場合は{@literal null} */
+    private final Throwable failure;
 
     /**
      * 本クラスのコンストラクタ。
      * @param constructor ラップ対象のコンストラクタ
      */
     public ConstructorWrapper(final Constructor<?> constructor) {
-        this.constructor = Objects.requireNonNull(constructor);
+        Objects.requireNonNull(constructor);
+        MethodHandle direct = null;
+        MethodHandle handle = null;
+        Throwable failure = null;
+        try {
+            if (Modifier.isAbstract(constructor.getDeclaringClass().getModifiers())) {
+                throw new InstantiationException(constructor.getDeclaringClass().getName());
+            }
+            constructor.setAccessible(true);
+            direct = MethodHandles.lookup().unreflectConstructor(constructor);
+            handle = direct.asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            failure = e;
+        }
+        this.direct = direct;
+        this.handle = handle;
+        this.failure = failure;
+    }
+
+    /**
+     * コンストラクタから変換した{@link MethodHandle}を取得する。
+     * 
+     * <p>型はコンストラクタの引数を引数とし、生成したインスタンスを戻り値とする。</p>
+     * 
+     * @return コンストラクタから変換した{@link MethodHandle}
+     * @throws ReflectionException 変換に失敗していた場合
+     */
+    public MethodHandle getMethodHandle() {
+        if (failure != null) {
+            throw new ReflectionException(failure);
+        }
+        return direct;
     }
 
     /**
@@ -27,15 +69,13 @@ public final class ConstructorWrapper {
      * @return インスタンス
      */
     public Object newInstance(final Object... initargs) {
-        if (constructor.isAccessible() == false) {
-            constructor.setAccessible(true);
+        if (failure != null) {
+            throw new ReflectionException(failure);
         }
         try {
-            return constructor.newInstance(initargs);
-        } catch (final InstantiationException | IllegalAccessException | IllegalArgumentException e) {
-            throw new ReflectionException(e);
-        } catch (final InvocationTargetException e) {
-            throw new ReflectionException(e.getTargetException());
+            return (Object) handle.invokeExact(initargs);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
         }
     }
 }
@@ -1,5 +1,8 @@
 package nablarch.fw.dicontainer.component.impl.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Objects;
@@ -8,10 +11,19 @@ import nablarch.fw.dicontainer.exception.ReflectionException;
 
 /**
  * {@link Field}のラッパークラス。
+ * 
+ * <p>インスタンス生成時にセッターの{@link MethodHandle}へ変換しておき、
+ * 呼び出しのたびにアクセスチェックを行わない。</p>
  */
 public final class FieldWrapper {
     /** ラップ対象の{@link Field} */
     private final Field field;
+    /** フィールドから変換したセッターのハンドル */
+    private final MethodHandle direct;
+    /** 値を設定するハンドル。型は{@code (Object, Object)void} */
+    private final MethodHandle setter;
+    /** ハンドルへの変換に失敗した場合の例外。変換に成功した場合は{@literal null} */
+    private final Throwable failure;
 
     /**
      * コンストラクタ。
@@ -19,6 +31,39 @@ public final class FieldWrapper {
      */
     public FieldWrapper(final Field field) {
         this.field = Objects.requireNonNull(field);
+        MethodHandle direct = null;
+        MethodHandle setter = null;
+        Throwable failure = null;
+        try {
+            field.setAccessible(true);
+            direct = MethodHandles.lookup().unreflectSetter(field);
+            setter = direct;
+            if (isStatic()) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+            }
+            setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            failure = e;
+        }
+        this.direct = direct;
+        this.setter = setter;
+        this.failure = failure;
+    }
+
+    /**
+     * フィールドから変換したセッターの{@link MethodHandle}を取得する。
+     * 
+     * <p>型はインスタンスフィールドの場合は対象のオブジェクトと設定される値を引数とし、
+     * staticフィールドの場合は設定される値のみを引数とする。</p>
+     * 
+     * @return フィールドから変換したセッターの{@link MethodHandle}
+     * @throws ReflectionException 変換に失敗していた場合
+     */
+    public MethodHandle getMethodHandle() {
+        if (failure != null) {
+            throw new ReflectionException(failure);
+        }
+        return direct;
     }
 
     /**
@@ -27,13 +72,13 @@ public final class FieldWrapper {
      * @param value 設定される値
      */
     public void set(final Object obj, final Object value) {
-        if (field.isAccessible() == false) {
-            field.setAccessible(true);
+        if (failure != null) {
+            throw new ReflectionException(failure);
         }
         try {
-            field.set(obj, value);
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
-            throw new ReflectionException(e);
+            setter.invokeExact(obj, value);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
         }
     }
 
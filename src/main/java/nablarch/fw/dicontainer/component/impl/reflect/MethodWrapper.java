@@ -1,6 +1,8 @@
 package nablarch.fw.dicontainer.component.impl.reflect;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Objects;
@@ -10,10 +12,19 @@ import nablarch.fw.dicontainer.exception.ReflectionException;
 /**
  * {@link Method}のラッパークラス。
  *
+ * <p>インスタンス生成時に{@link MethodHandle}へ変換しておき、
+ * 呼び出しのたびにアクセスチェックや型変換の準備を行わない。</p>
+ *
  */
 public final class MethodWrapper {
     /** ラップ対象のメソッド */
     private final Method method;
+    /** メソッドから変換したハンドル */
+    private final MethodHandle direct;
+    /** メソッドを呼び出すハンドル。型は{@code (Object, Object[])Object} */
+    private final MethodHandle handle;
+    /** ハンドルへの変換に失敗した場合の例外。変換に成功した場合は{@literal null} */
+    private final Throwable failure;
 
     /**
      * コンストラクタ。
@@ -21,24 +32,56 @@ public final class MethodWrapper {
      */
     public MethodWrapper(final Method method) {
         this.method = Objects.requireNonNull(method);
+        MethodHandle direct = null;
+        MethodHandle handle = null;
+        Throwable failure = null;
+        try {
+            method.setAccessible(true);
+            direct = MethodHandles.lookup().unreflect(method);
+            handle = direct;
+            if (isStatic()) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            handle = handle.asSpreader(Object[].class, method.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        } catch (final ReflectiveOperationException | RuntimeException e) {
+            failure = e;
+        }
+        this.direct = direct;
+        this.handle = handle;
+        this.failure = failure;
+    }
+
+    /**
+     * メソッドから変換した{@link MethodHandle}を取得する。
+     * 
+     * <p>型はインスタンスメソッドの場合は対象のオブジェクトとメソッドの引数を引数とし、
+     * staticメソッドの場合はメソッドの引数のみを引数とする。</p>
+     * 
+     * @return メソッドから変換した{@link MethodHandle}
+     * @throws ReflectionException 変換に失敗していた場合
+     */
+    public MethodHandle getMethodHandle() {
+        if (failure != null) {
+            throw new ReflectionException(failure);
+        }
+        return direct;
     }
 
     /**
      * 与えられたオブジェクトのメソッドを呼び出す。
      * @param obj 対象オブジェクト
      * @param args メソッドの引数
-     * @return 呼び出したメソッドの戻り値
+     * @return 呼び出したメソッドの戻り値。戻り値の型が{@code void}の場合は{@literal null}
      */
     public Object invoke(final Object obj, final Object... args) {
-        if (method.isAccessible() == false) {
-            method.setAccessible(true);
+        if (failure != null) {
+            throw new ReflectionException(failure);
         }
         try {
-            return method.invoke(obj, args);
-        } catch (final IllegalAccessException | IllegalArgumentException e) {
-            throw new ReflectionException(e);
-        } catch (final InvocationTargetException e) {
-            throw new ReflectionException(e.getTargetException());
+            return (Object) handle.invokeExact(obj, args);
+        } catch (final Throwable t) {
+            throw new ReflectionException(t);
         }
     }
 
@@ -1,8 +1,12 @@
 package nablarch.fw.dicontainer.container;
 
+import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Objects;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -15,9 +19,11 @@ import nablarch.fw.dicontainer.component.AliasMapping;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.ComponentDefinitionRepository;
 import nablarch.fw.dicontainer.component.ComponentId;
+import nablarch.fw.dicontainer.component.ComponentInjector;
 import nablarch.fw.dicontainer.component.ComponentKey;
 import nablarch.fw.dicontainer.component.ComponentKey.AliasKey;
 import nablarch.fw.dicontainer.component.ErrorCollector;
+import nablarch.fw.dicontainer.component.factory.ComponentInjectorFactory;
 import nablarch.fw.dicontainer.component.impl.ContainerInjectableConstructor;
 import nablarch.fw.dicontainer.event.ContainerCreated;
 import nablarch.fw.dicontainer.exception.ContainerException;
@@ -42,6 +48,14 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
      * エイリアスキーと検索キーのマッピング
      */
     private final AliasMapping aliasesMap = new AliasMapping();
+    /**
+     * 検索キーごとのコンポーネント定義の検索結果。コンポーネント定義を登録するとクリアする
+     */
+    private final Map<ComponentKey<?>, Set<ComponentDefinition<?>>> resolved = new ConcurrentHashMap<>();
+    /**
+     * 循環を検出するためのコンポーネント定義の依存関係。バリデーションを行うたびに作り直す
+     */
+    private DependencyGraph dependencyGraph = new DependencyGraph();
     /**
      * バリデーションエラーを収集するクラス
      */
@@ -50,6 +64,22 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
      * DIコンテナの構築を開始した時点の{@link System#nanoTime()}値
      */
     private final long startedAt;
+    /**
+     * {@link Container#getComponents(Class)}の結果がすべてシングルトンの場合にキャッシュするかどうか
+     */
+    private boolean cacheSingletonComponents;
+    /**
+     * {@link ComponentInjector}のファクトリ。使用しない場合は{@literal null}
+     */
+    private ComponentInjectorFactory componentInjectorFactory;
+    /**
+     * コンポーネント定義のバリデーションを並列に行うかどうか
+     */
+    private boolean parallelValidation;
+    /**
+     * DIコンテナを構築したかどうか
+     */
+    private boolean built;
 
     /**
      * インスタンスを生成する。
@@ -60,6 +90,15 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         logger.logInfo("Start building a Container.");
     }
 
+    /**
+     * コンポーネント定義ごとのバリデーションに使用するインスタンスを生成する。
+     * 
+     * @param parent 構築中のDIコンテナのビルダー
+     */
+    private ContainerBuilder(final ContainerBuilder<?> parent) {
+        this.startedAt = parent.startedAt;
+    }
+
     /**
      * {@link ErrorCollector#throwExceptionIfExistsError()}で無視をする例外クラスを設定する。
      * 
@@ -73,6 +112,51 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         return self();
     }
 
+    /**
+     * {@link Container#getComponents(Class)}の結果をキャッシュするかどうかを設定する。
+     * 
+     * <p>{@literal true}を設定した場合、取得対象のコンポーネントがすべてシングルトンであれば、
+     * 初回に取得したコンポーネントを変更不可能な集合としてキャッシュし、以降はその集合を返す。</p>
+     * 
+     * @param cacheSingletonComponents キャッシュする場合は{@literal true}
+     * @return このビルダー自身
+     */
+    public BUILDER cacheSingletonComponents(final boolean cacheSingletonComponents) {
+        this.cacheSingletonComponents = cacheSingletonComponents;
+        return self();
+    }
+
+    /**
+     * コンポーネント定義ごとに{@link ComponentInjector}を生成するファクトリを設定する。
+     * 
+     * <p>設定した場合、DIコンテナの構築時にコンポーネント定義ごとに{@link ComponentInjector}を生成し、
+     * コンポーネントの生成に使用する。デフォルトでは使用しない。</p>
+     * 
+     * @param componentInjectorFactory {@link ComponentInjector}のファクトリ
+     * @return このビルダー自身
+     * @see nablarch.fw.dicontainer.component.impl.GeneratedComponentInjectorFactory
+     */
+    public BUILDER componentInjectorFactory(
+            final ComponentInjectorFactory componentInjectorFactory) {
+        this.componentInjectorFactory = componentInjectorFactory;
+        return self();
+    }
+
+    /**
+     * コンポーネント定義のバリデーションを並列に行うかどうかを設定する。
+     * 
+     * <p>{@literal true}を設定した場合、{@link #build()}でコンポーネント定義ごとのバリデーションを
+     * 複数のスレッドで行う。バリデーションエラーはコンポーネント定義の登録順に、
+     * 直列に行う場合と同じ順序で収集する。デフォルトでは直列に行う。</p>
+     * 
+     * @param parallelValidation 並列に行う場合は{@literal true}
+     * @return このビルダー自身
+     */
+    public BUILDER parallelValidation(final boolean parallelValidation) {
+        this.parallelValidation = parallelValidation;
+        return self();
+    }
+
     /**
      * コンポーネント定義を登録する。
      * 
@@ -80,9 +164,11 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
      * @param key 検索キー
      * @param definition コンポーネント定義
      * @return このビルダー自身
+     * @throws IllegalStateException 既にDIコンテナを構築している場合
      */
     public <T> BUILDER register(final ComponentKey<T> key,
             final ComponentDefinition<T> definition) {
+        requireNotBuilt();
 
         logger.logDebug("Start registering component definition. key=" + key);
 
@@ -91,6 +177,7 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
             aliasesMap.register(aliasKey, key);
         }
         definitions.register(key, definition);
+        resolved.clear();
 
         logger.logDebug("Component definition registered. key=" + key);
 
@@ -100,22 +187,53 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
     /**
      * コンポーネント定義を検索する。
      * 
+     * <p>エイリアスキーで複数見つかった場合は、検索キーを登録した順に並ぶ。
+     * 検索結果はコンポーネント定義が登録されるまでキャッシュする。</p>
+     * 
      * @param key 検索キー
-     * @return コンポーネント定義の集合
+     * @return コンポーネント定義の変更不可能な集合
      */
     public Set<ComponentDefinition<?>> findComponentDefinitions(final ComponentKey<?> key) {
+        final Set<ComponentDefinition<?>> cached = resolved.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final Set<ComponentDefinition<?>> found = resolve(key);
+        final Set<ComponentDefinition<?>> previous = resolved.putIfAbsent(key, found);
+        return previous != null ? previous : found;
+    }
+
+    /**
+     * キャッシュを使わずにコンポーネント定義を検索する。
+     * 
+     * @param key 検索キー
+     * @return コンポーネント定義の変更不可能な集合
+     */
+    private Set<ComponentDefinition<?>> resolve(final ComponentKey<?> key) {
         final ComponentDefinition<?> definition = definitions.find(key);
         if (definition != null) {
             return Collections.singleton(definition);
         }
         final Set<ComponentKey<?>> alterKeys = aliasesMap.find(key.asAliasKey());
-        return alterKeys.stream().map(definitions::find).filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        if (alterKeys.isEmpty()) {
+            return Collections.emptySet();
+        }
+        final Set<ComponentDefinition<?>> found = new LinkedHashSet<>();
+        for (final ComponentKey<?> alterKey : alterKeys) {
+            final ComponentDefinition<?> alter = definitions.find(alterKey);
+            if (alter != null) {
+                found.add(alter);
+            }
+        }
+        return Collections.unmodifiableSet(found);
     }
 
     /**
      * 依存関係の循環を検出するためのバリデーションを行う。
      * 
+     * <p>対象から検索キーが指すコンポーネント定義への依存関係を記録する。
+     * 循環の検出は{@link #build()}で、すべての依存関係を記録した後にまとめて行う。</p>
+     * 
      * @param key 検索キー
      * @param target 対象となるコンポーネント定義
      */
@@ -126,6 +244,16 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         context.validateCycleDependency(key);
     }
 
+    /**
+     * 循環を検出するためのコンポーネント定義の依存関係を追加する。
+     * 
+     * @param from 依存するコンポーネント定義
+     * @param to 依存されるコンポーネント定義
+     */
+    void addDependency(final ComponentDefinition<?> from, final ComponentDefinition<?> to) {
+        dependencyGraph.addEdge(from, to);
+    }
+
     /**
      * バリデーションエラーを追加する。
      * 
@@ -135,16 +263,57 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         errorCollector.add(exception);
     }
 
+    /**
+     * 登録されたコンポーネント定義のバリデーションを行う。
+     * 
+     * <p>並列に行う場合、コンポーネント定義ごとに結果を保持するビルダーを渡して複数のスレッドでバリデーションを行い、
+     * その結果は登録順にこのビルダーへ反映する。
+     * そのため、収集されるバリデーションエラーは直列に行う場合と同じ順序になる。</p>
+     */
+    private void validateDefinitions() {
+        if (parallelValidation == false) {
+            definitions.validate(this);
+            return;
+        }
+        final List<DefinitionValidation> validations = definitions.list().parallelStream()
+                .map(definition -> {
+                    final DefinitionValidation validation = new DefinitionValidation(this);
+                    definition.validate(validation);
+                    return validation;
+                })
+                .collect(Collectors.toList());
+        for (final DefinitionValidation validation : validations) {
+            validation.apply();
+        }
+    }
+
     /**
      * DIコンテナを構築する。
      * 
+     * <p>1つのビルダーから構築できるDIコンテナは1つだけである。
+     * 構築時にコンポーネント定義へ依存先や{@link ComponentInjector}を結び付けるため、
+     * 構築後にコンポーネント定義を登録したり、再度構築したりすることはできない。</p>
+     * 
      * @return 構築されたDIコンテナ
+     * @throws IllegalStateException 既にDIコンテナを構築している場合
      */
     public Container build() {
+        requireNotBuilt();
         registerContainer();
-        definitions.validate(this);
+        built = true;
+        dependencyGraph = new DependencyGraph();
+        validateDefinitions();
+        dependencyGraph.validate(this);
         errorCollector.throwExceptionIfExistsError();
-        final DefaultContainer container = new DefaultContainer(definitions, aliasesMap);
+        final ComponentDefinitionRepository frozenDefinitions = definitions.freeze();
+        final AliasMapping frozenAliasesMap = aliasesMap.freeze();
+        frozenDefinitions.assignIndexes();
+        frozenDefinitions.link(this);
+        if (componentInjectorFactory != null) {
+            frozenDefinitions.compile(componentInjectorFactory);
+        }
+        final DefaultContainer container = new DefaultContainer(frozenDefinitions,
+                frozenAliasesMap, cacheSingletonComponents);
 
         final long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
         logger.logInfo("Built Container. " + time + "(msec)");
@@ -169,6 +338,17 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         register(key, definition);
     }
 
+    /**
+     * DIコンテナを構築していないことを確認する。
+     * 
+     * @throws IllegalStateException 既にDIコンテナを構築している場合
+     */
+    private void requireNotBuilt() {
+        if (built) {
+            throw new IllegalStateException("Container has already been built by this builder.");
+        }
+    }
+
     /**
      * 自分自身を{@code BUILDER}型へキャストする。
      * 
@@ -178,6 +358,65 @@ public class ContainerBuilder<BUILDER extends ContainerBuilder<BUILDER>> {
         return (BUILDER) this;
     }
 
+    /**
+     * 1つのコンポーネント定義のバリデーションの結果を保持するビルダー。
+     * 
+     * <p>コンポーネント定義の検索は構築中のDIコンテナのビルダーに委譲し、
+     * バリデーションエラーと依存関係は自身に保持して{@link #apply()}で反映する。</p>
+     *
+     */
+    private static final class DefinitionValidation extends ContainerBuilder<DefinitionValidation> {
+
+        /**
+         * 構築中のDIコンテナのビルダー
+         */
+        private final ContainerBuilder<?> parent;
+        /**
+         * 反映を保留しているバリデーションの結果。追加された順に保持する
+         */
+        private final List<Runnable> results = new ArrayList<>();
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param parent 構築中のDIコンテナのビルダー
+         */
+        DefinitionValidation(final ContainerBuilder<?> parent) {
+            super(parent);
+            this.parent = parent;
+        }
+
+        @Override
+        public DefinitionValidation ignoreError(final Class<? extends ContainerException> ignoreMe) {
+            results.add(() -> parent.ignoreError(ignoreMe));
+            return this;
+        }
+
+        @Override
+        public Set<ComponentDefinition<?>> findComponentDefinitions(final ComponentKey<?> key) {
+            return parent.findComponentDefinitions(key);
+        }
+
+        @Override
+        void addDependency(final ComponentDefinition<?> from, final ComponentDefinition<?> to) {
+            results.add(() -> parent.addDependency(from, to));
+        }
+
+        @Override
+        public void addError(final ContainerException exception) {
+            results.add(() -> parent.addError(exception));
+        }
+
+        /**
+         * 保持しているバリデーションの結果を、構築中のDIコンテナのビルダーへ反映する。
+         */
+        void apply() {
+            for (final Runnable result : results) {
+                result.run();
+            }
+        }
+    }
+
     /**
      * DIコンテナ専用のスコープ。
      *
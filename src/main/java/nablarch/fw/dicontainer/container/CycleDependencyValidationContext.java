@@ -1,17 +1,17 @@
 package nablarch.fw.dicontainer.container;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.ComponentKey;
-import nablarch.fw.dicontainer.exception.CycleInjectionException;
 
 /**
  * 循環依存バリデーションのコンテキスト。
  *
+ * <p>対象となるコンポーネント定義から依存先への依存関係を、DIコンテナのビルダーが持つ依存関係のグラフに追加する。
+ * 循環の検出は{@link ContainerBuilder#build()}で、すべての依存関係を追加した後に1回だけ行う。</p>
+ *
  */
 public final class CycleDependencyValidationContext {
 
@@ -23,24 +23,17 @@ public final class CycleDependencyValidationContext {
      * バリデーション対象となるコンポーネントの定義
      */
     private final ComponentDefinition<?> target;
-    /**
-     * 対象に依存されているコンポーネントの定義
-     */
-    private final List<ComponentDefinition<?>> dependencies;
 
     /**
      * インスタンスを生成する。
      * 
      * @param containerBuilder DIコンテナのビルダー
      * @param target バリデーション対象となるコンポーネントの定義
-     * @param dependencies 対象に依存されているコンポーネントの定義
      */
     private CycleDependencyValidationContext(final ContainerBuilder<?> containerBuilder,
-            final ComponentDefinition<?> target,
-            final List<ComponentDefinition<?>> dependencies) {
+            final ComponentDefinition<?> target) {
         this.containerBuilder = Objects.requireNonNull(containerBuilder);
         this.target = Objects.requireNonNull(target);
-        this.dependencies = Objects.requireNonNull(dependencies);
     }
 
     /**
@@ -52,22 +45,26 @@ public final class CycleDependencyValidationContext {
      */
     static CycleDependencyValidationContext newContext(
             final ContainerBuilder<?> containerBuilder, final ComponentDefinition<?> target) {
-        return new CycleDependencyValidationContext(containerBuilder, target,
-                new ArrayList<>());
+        return new CycleDependencyValidationContext(containerBuilder, target);
     }
 
     /**
      * 現在の状態をコピーして新しいコンテキストを生成する。
      * 
-     * @return コピーして生成されたコンテキスト
+     * <p>コンテキストは探索の状態を持たないため、自身を返す。</p>
+     * 
+     * @return このコンテキスト自身
+     * @deprecated 依存関係の循環は{@link ContainerBuilder#build()}でまとめて検出するため、コンテキストを複製する必要はない
      */
+    @Deprecated
     public CycleDependencyValidationContext createSubContext() {
-        return new CycleDependencyValidationContext(containerBuilder, target,
-                new ArrayList<>(dependencies));
+        return this;
     }
 
     /**
-     * 依存関係の循環を検出するためのバリデーションを行う。
+     * 依存関係の循環を検出するため、対象から検索キーが指すコンポーネント定義への依存関係を追加する。
+     * 
+     * <p>検索キーに対応するコンポーネント定義が1つに決まらない場合は何もしない。</p>
      * 
      * @param key 検索キー
      */
@@ -76,17 +73,6 @@ public final class CycleDependencyValidationContext {
         if (cds.size() != 1) {
             return;
         }
-        final ComponentDefinition<?> dependency = cds.iterator().next();
-        dependencies.add(dependency);
-        if (dependencies.contains(target)) {
-            final ComponentDefinition<?> cd = dependencies.stream().filter(target::equals)
-                    .findAny()
-                    .get();
-            containerBuilder.addError(
-                    new CycleInjectionException("Dependency between [" + target + "] and ["
-                            + cd + "] is cycled."));
-            return;
-        }
-        dependency.validateCycleDependency(this);
+        containerBuilder.addDependency(target, cds.iterator().next());
     }
 }
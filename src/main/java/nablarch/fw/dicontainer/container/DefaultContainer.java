@@ -1,14 +1,19 @@
 package nablarch.fw.dicontainer.container;
 
 import java.lang.annotation.Annotation;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import nablarch.core.log.Logger;
 import nablarch.core.log.LoggerManager;
+import nablarch.fw.dicontainer.ComponentHandle;
 import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.component.AliasMapping;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
@@ -18,6 +23,7 @@ import nablarch.fw.dicontainer.event.ContainerDestroy;
 import nablarch.fw.dicontainer.event.EventTrigger;
 import nablarch.fw.dicontainer.exception.ComponentDuplicatedException;
 import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
+import nablarch.fw.dicontainer.exception.ContainerException;
 
 /**
  * {@link Container}のデフォルト実装クラス。
@@ -32,6 +38,18 @@ public final class DefaultContainer implements Container, EventTrigger {
     /** エイリアスキーと検索キーのマッピング */
     private final AliasMapping aliasMapping;
 
+    /** 検索キーとその解決結果のキャッシュ。コンポーネント定義を解決できた検索キーだけを保持する */
+    private final ConcurrentMap<ComponentKey<?>, Resolution<?>> resolutions = new ConcurrentHashMap<>();
+
+    /** 限定子を持たない検索キーのクラスとその解決結果のキャッシュ。コンポーネント定義を解決できたクラスだけを保持する */
+    private final ConcurrentMap<Class<?>, Resolution<?>> classResolutions = new ConcurrentHashMap<>();
+
+    /** {@link #getComponents(Class)}で取得するクラスと、取得対象となるコンポーネント定義のキャッシュ */
+    private final ConcurrentMap<Class<?>, MultiBinding<?>> multiBindings = new ConcurrentHashMap<>();
+
+    /** {@link #getComponents(Class)}の結果がすべてシングルトンの場合にキャッシュするかどうか */
+    private final boolean cacheSingletonComponents;
+
     /**
      * コンストラクタ。
      * @param definitionsMap コンポーネント定義のリポジトリ
@@ -39,36 +57,114 @@ public final class DefaultContainer implements Container, EventTrigger {
      */
     public DefaultContainer(final ComponentDefinitionRepository definitionsMap,
             final AliasMapping aliasesMap) {
+        this(definitionsMap, aliasesMap, false);
+    }
+
+    /**
+     * コンストラクタ。
+     * @param definitionsMap コンポーネント定義のリポジトリ
+     * @param aliasesMap エイリアスキーと検索キーのマッピング
+     * @param cacheSingletonComponents {@link #getComponents(Class)}の結果がすべてシングルトンの場合にキャッシュするかどうか
+     */
+    public DefaultContainer(final ComponentDefinitionRepository definitionsMap,
+            final AliasMapping aliasesMap, final boolean cacheSingletonComponents) {
         this.definitions = Objects.requireNonNull(definitionsMap);
         this.aliasMapping = Objects.requireNonNull(aliasesMap);
+        this.cacheSingletonComponents = cacheSingletonComponents;
     }
 
     @Override
     public <T> T getComponent(final ComponentKey<T> key) {
-        return doAction(key, definition -> definition.getComponent(this));
+        return resolve(key).getDefinition().getComponent(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>検索キーはこのメソッドの呼び出し時に解決する。
+     * コンポーネントが見つからない場合や重複している場合は、このメソッドが例外をスローする。</p>
+     */
+    @Override
+    public <T> ComponentHandle<T> handle(final ComponentKey<T> key) {
+        return new BoundComponentHandle<>(this, resolve(key).getDefinition());
     }
 
-    private <T> T doAction(final ComponentKey<T> key, Function<ComponentDefinition<T>, T> action) {
-        ComponentDefinition<T> definition = definitions.find(key);
+    /**
+     * クラスからコンポーネント定義を解決する。
+     * 
+     * <p>限定子を持たない検索キーでの解決にあたり、
+     * 検索キーを生成せずにクラスをキーとしたキャッシュから解決結果を返す。</p>
+     * 
+     * @param <T> コンポーネントの型
+     * @param key 検索キーとなるクラス
+     * @return 解決結果
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Resolution<T> resolve(final Class<T> key) {
+        Resolution<?> resolution = classResolutions.get(key);
+        if (resolution == null) {
+            resolution = resolve(new ComponentKey<>(key));
+            if (resolution.isFound()) {
+                classResolutions.putIfAbsent(key, resolution);
+            }
+        }
+        return (Resolution<T>) resolution;
+    }
+
+    /**
+     * 検索キーからコンポーネント定義を解決する。
+     * 
+     * <p>コンポーネント定義を解決できた場合は結果をキャッシュし、
+     * 同じ検索キーによる2回目以降の解決ではキャッシュから返す。
+     * コンポーネントが見つからない場合や重複している場合は、任意の検索キーでキャッシュが増え続けないよう、
+     * 結果をキャッシュせずに毎回解決する。</p>
+     * 
+     * @param <T> コンポーネントの型
+     * @param key 検索キー
+     * @return 解決結果
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Resolution<T> resolve(final ComponentKey<T> key) {
+        Resolution<?> resolution = resolutions.get(key);
+        if (resolution == null) {
+            resolution = doResolve(key);
+            if (resolution.isFound()) {
+                final Resolution<?> previous = resolutions.putIfAbsent(key, resolution);
+                if (previous != null) {
+                    resolution = previous;
+                }
+            }
+        }
+        return (Resolution<T>) resolution;
+    }
+
+    /**
+     * 検索キーからコンポーネント定義を解決する。
+     * 
+     * @param <T> コンポーネントの型
+     * @param key 検索キー
+     * @return 解決結果
+     */
+    private <T> Resolution<T> doResolve(final ComponentKey<T> key) {
+        final ComponentDefinition<T> definition = definitions.find(key);
         if (definition != null) {
-            return action.apply(definition);
+            return Resolution.found(definition);
         }
         final Set<ComponentKey<?>> alterKeys = aliasMapping.find(key.asAliasKey());
         if (alterKeys.isEmpty()) {
-            throw new ComponentNotFoundException("key=" + key);
+            return Resolution.notFound("key=" + key);
         } else if (alterKeys.size() > 1) {
             final String message = alterKeys.stream().map(Objects::toString)
                     .collect(Collectors.joining(", ", "keys=", ""));
-            throw new ComponentDuplicatedException(message);
+            return Resolution.duplicated(message);
         }
         final ComponentKey<T> alterKey = (ComponentKey<T>) alterKeys.iterator().next();
-        definition = definitions.find(alterKey);
-        return action.apply(definition);
+        return Resolution.found(definitions.find(alterKey));
     }
 
     @Override
     public <T> T removeComponent(Class<T> key) {
-        return removeComponent(new ComponentKey<>(key));
+        return resolve(key).getDefinition().removeComponent();
     }
 
     @Override
@@ -78,12 +174,12 @@ public final class DefaultContainer implements Container, EventTrigger {
 
     @Override
     public <T> T removeComponent(ComponentKey<T> key) {
-        return doAction(key, definition -> definition.removeComponent());
+        return resolve(key).getDefinition().removeComponent();
     }
 
     @Override
     public <T> T getComponent(final Class<T> key) {
-        return getComponent(new ComponentKey<>(key));
+        return resolve(key).getDefinition().getComponent(this);
     }
 
     @Override
@@ -91,18 +187,46 @@ public final class DefaultContainer implements Container, EventTrigger {
         return getComponent(new ComponentKey<>(key, qualifiers));
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>コンポーネントは登録順に並んだ集合として返す。
+     * {@link ContainerBuilder#cacheSingletonComponents(boolean)}に{@literal true}が設定され、
+     * 取得対象のコンポーネントがすべてシングルトンの場合は、キャッシュした変更不可能な集合を返す。</p>
+     */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Set<T> getComponents(final Class<T> key) {
+        MultiBinding<?> multiBinding = multiBindings.get(key);
+        if (multiBinding == null) {
+            multiBinding = createMultiBinding(key);
+            final MultiBinding<?> previous = multiBindings.putIfAbsent(key, multiBinding);
+            if (previous != null) {
+                multiBinding = previous;
+            }
+        }
+        return ((MultiBinding<T>) multiBinding).getComponents(this);
+    }
+
+    /**
+     * {@link #getComponents(Class)}の取得対象となるコンポーネント定義を収集する。
+     * 
+     * @param <T> コンポーネントの型
+     * @param key 検索キーとなるクラス
+     * @return 取得対象となるコンポーネント定義
+     */
+    private <T> MultiBinding<T> createMultiBinding(final Class<T> key) {
         final ComponentKey<T> exactKey = new ComponentKey<>(key);
-        final Set<ComponentKey<?>> alterKeys = aliasMapping.find(exactKey.asAliasKey());
-        final Set<ComponentKey<?>> keys = new HashSet<>(alterKeys.size() + 1);
+        final Set<ComponentKey<?>> keys = new LinkedHashSet<>();
         keys.add(exactKey);
-        keys.addAll(alterKeys);
-        final Set<?> components = keys.stream().map(definitions::find)
+        keys.addAll(aliasMapping.find(exactKey.asAliasKey()));
+        final List<ComponentDefinition<?>> found = keys.stream().map(definitions::find)
                 .filter(Objects::nonNull)
-                .map(a -> a.getComponent(this))
-                .collect(Collectors.toSet());
-        return (Set<T>) components;
+                .distinct()
+                .collect(Collectors.toList());
+        final boolean cacheable = cacheSingletonComponents
+                && found.stream().allMatch(ComponentDefinition::isSingleton);
+        return new MultiBinding<>(found, cacheable);
     }
 
     @Override
@@ -115,4 +239,179 @@ public final class DefaultContainer implements Container, EventTrigger {
     public void destroy() {
         fire(new ContainerDestroy());
     }
+
+    /**
+     * {@link #getComponents(Class)}の取得対象となるコンポーネント定義。
+     *
+     * @param <T> コンポーネントの型
+     */
+    private static final class MultiBinding<T> {
+
+        /** 取得対象となるコンポーネント定義（登録順） */
+        private final ComponentDefinition<?>[] definitions;
+
+        /** 取得したコンポーネントをキャッシュするかどうか */
+        private final boolean cacheable;
+
+        /** キャッシュしたコンポーネントの集合 */
+        private volatile Set<T> cached;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param definitions 取得対象となるコンポーネント定義
+         * @param cacheable 取得したコンポーネントをキャッシュするかどうか
+         */
+        MultiBinding(final List<ComponentDefinition<?>> definitions, final boolean cacheable) {
+            this.definitions = definitions.toArray(new ComponentDefinition<?>[0]);
+            this.cacheable = cacheable;
+        }
+
+        /**
+         * コンポーネントを取得する。
+         * 
+         * @param container DIコンテナ
+         * @return コンポーネントの集合
+         */
+        @SuppressWarnings("unchecked")
+        Set<T> getComponents(final DefaultContainer container) {
+            final Set<T> current = cached;
+            if (current != null) {
+                return current;
+            }
+            final Set<T> components = new LinkedHashSet<>(definitions.length * 2);
+            for (final ComponentDefinition<?> definition : definitions) {
+                components.add((T) definition.getComponent(container));
+            }
+            if (cacheable) {
+                final Set<T> unmodifiable = Collections.unmodifiableSet(components);
+                cached = unmodifiable;
+                return unmodifiable;
+            }
+            return components;
+        }
+    }
+
+    /**
+     * コンポーネント定義に束縛された{@link ComponentHandle}実装クラス。
+     *
+     * @param <T> コンポーネントの型
+     */
+    private static final class BoundComponentHandle<T> implements ComponentHandle<T> {
+
+        /** DIコンテナ */
+        private final DefaultContainer container;
+
+        /** コンポーネント定義 */
+        private final ComponentDefinition<T> definition;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param container DIコンテナ
+         * @param definition コンポーネント定義
+         */
+        BoundComponentHandle(final DefaultContainer container,
+                final ComponentDefinition<T> definition) {
+            this.container = container;
+            this.definition = definition;
+        }
+
+        @Override
+        public T get() {
+            return definition.getComponent(container);
+        }
+
+        @Override
+        public String toString() {
+            return "ComponentHandle(" + definition + ")";
+        }
+    }
+
+    /**
+     * 検索キーからコンポーネント定義を解決した結果。
+     *
+     * @param <T> コンポーネントの型
+     */
+    private static final class Resolution<T> {
+
+        /** 解決されたコンポーネント定義。解決できなかった場合は{@literal null} */
+        private final ComponentDefinition<T> definition;
+
+        /** 解決できなかった場合にスローする例外のファクトリ */
+        private final Function<String, ContainerException> exceptionFactory;
+
+        /** 解決できなかった場合の例外メッセージ */
+        private final String message;
+
+        /**
+         * インスタンスを生成する。
+         * 
+         * @param definition 解決されたコンポーネント定義
+         * @param exceptionFactory 解決できなかった場合にスローする例外のファクトリ
+         * @param message 解決できなかった場合の例外メッセージ
+         */
+        private Resolution(final ComponentDefinition<T> definition,
+                final Function<String, ContainerException> exceptionFactory,
+                final String message) {
+            this.definition = definition;
+            this.exceptionFactory = exceptionFactory;
+            this.message = message;
+        }
+
+        /**
+         * 解決できた結果を生成する。
+         * 
+         * @param <T> コンポーネントの型
+         * @param definition 解決されたコンポーネント定義
+         * @return 解決結果
+         */
+        static <T> Resolution<T> found(final ComponentDefinition<T> definition) {
+            return new Resolution<>(Objects.requireNonNull(definition), null, null);
+        }
+
+        /**
+         * コンポーネントが見つからなかった結果を生成する。
+         * 
+         * @param <T> コンポーネントの型
+         * @param message 例外メッセージ
+         * @return 解決結果
+         */
+        static <T> Resolution<T> notFound(final String message) {
+            return new Resolution<>(null, ComponentNotFoundException::new, message);
+        }
+
+        /**
+         * コンポーネントが重複していた結果を生成する。
+         * 
+         * @param <T> コンポーネントの型
+         * @param message 例外メッセージ
+         * @return 解決結果
+         */
+        static <T> Resolution<T> duplicated(final String message) {
+            return new Resolution<>(null, ComponentDuplicatedException::new, message);
+        }
+
+        /**
+         * コンポーネント定義を解決できたかどうかを返す。
+         * 
+         * @return 解決できた場合は{@literal true}
+         */
+        boolean isFound() {
+            return definition != null;
+        }
+
+        /**
+         * 解決されたコンポーネント定義を取得する。
+         * 
+         * @return コンポーネント定義
+         * @throws ContainerException 解決できなかった場合
+         */
+        ComponentDefinition<T> getDefinition() {
+            if (definition == null) {
+                throw exceptionFactory.apply(message);
+            }
+            return definition;
+        }
+    }
 }
@@ -0,0 +1,253 @@
+package nablarch.fw.dicontainer.container;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.exception.CycleInjectionException;
+
+/**
+ * コンポーネント定義の依存関係を表すグラフ。
+ *
+ * <p>依存関係の循環は、Tarjanのアルゴリズムで強連結成分を求めて検出する。
+ * 検出にかかる時間はコンポーネント定義の数と依存関係の数に比例する。</p>
+ *
+ */
+final class DependencyGraph {
+
+    /**
+     * コンポーネント定義と頂点のマッピング。追加した順序を保持する
+     */
+    private final Map<ComponentDefinition<?>, Vertex> vertices = new LinkedHashMap<>();
+
+    /**
+     * 依存関係を追加する。
+     *
+     * @param from 依存するコンポーネント定義
+     * @param to 依存されるコンポーネント定義
+     */
+    void addEdge(final ComponentDefinition<?> from, final ComponentDefinition<?> to) {
+        final Vertex source = vertex(from);
+        source.edges.add(vertex(to));
+    }
+
+    /**
+     * 依存関係の循環を検出し、バリデーションエラーを追加する。
+     *
+     * <p>循環している依存関係ごとにエラーを追加する。
+     * エラーは依存するコンポーネント定義を追加した順、依存関係を追加した順に並ぶ。
+     * 前回の検出結果は使用せず、呼び出すたびにすべての頂点を探索し直す。</p>
+     *
+     * @param containerBuilder DIコンテナのビルダー
+     */
+    void validate(final ContainerBuilder<?> containerBuilder) {
+        for (final Vertex vertex : vertices.values()) {
+            vertex.reset();
+        }
+        final Tarjan tarjan = new Tarjan();
+        for (final Vertex vertex : vertices.values()) {
+            if (vertex.index < 0) {
+                tarjan.run(vertex);
+            }
+        }
+        for (final Vertex vertex : vertices.values()) {
+            for (final Vertex dependency : vertex.edges) {
+                if (dependency.component == vertex.component && vertex.cycled) {
+                    containerBuilder.addError(new CycleInjectionException(
+                            "Dependency between [" + vertex.definition + "] and ["
+                                    + dependency.definition + "] is cycled."));
+                }
+            }
+        }
+    }
+
+    /**
+     * コンポーネント定義に対応する頂点を取得する。
+     *
+     * @param definition コンポーネント定義
+     * @return 頂点
+     */
+    private Vertex vertex(final ComponentDefinition<?> definition) {
+        return vertices.computeIfAbsent(definition, Vertex::new);
+    }
+
+    /**
+     * 頂点。
+     *
+     */
+    private static final class Vertex {
+
+        /**
+         * コンポーネント定義
+         */
+        private final ComponentDefinition<?> definition;
+        /**
+         * 依存先の頂点。追加した順序を保持し、重複は除く
+         */
+        private final Set<Vertex> edges = new LinkedHashSet<>();
+        /**
+         * 訪問した順序。未訪問の場合は{@literal -1}
+         */
+        private int index = -1;
+        /**
+         * 到達できる頂点のうち、スタック上にある最小の訪問順序
+         */
+        private int lowLink;
+        /**
+         * スタック上にあるかどうか
+         */
+        private boolean onStack;
+        /**
+         * 属する強連結成分の番号
+         */
+        private int component = -1;
+        /**
+         * 循環する強連結成分に属するかどうか
+         */
+        private boolean cycled;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param definition コンポーネント定義
+         */
+        Vertex(final ComponentDefinition<?> definition) {
+            this.definition = definition;
+        }
+
+        /**
+         * 探索の状態を未訪問に戻す。
+         */
+        void reset() {
+            index = -1;
+            lowLink = 0;
+            onStack = false;
+            component = -1;
+            cycled = false;
+        }
+    }
+
+    /**
+     * 強連結成分を求めるTarjanのアルゴリズム。
+     *
+     * <p>依存関係が深い場合にスタックオーバーフローしないよう、再帰を使わずに探索する。</p>
+     *
+     */
+    private static final class Tarjan {
+
+        /**
+         * 次に割り当てる訪問順序
+         */
+        private int nextIndex;
+        /**
+         * 次に割り当てる強連結成分の番号
+         */
+        private int nextComponent;
+        /**
+         * 強連結成分が確定していない頂点のスタック
+         */
+        private final Deque<Vertex> stack = new ArrayDeque<>();
+
+        /**
+         * 頂点から探索する。
+         *
+         * @param root 探索を開始する頂点
+         */
+        void run(final Vertex root) {
+            final Deque<Frame> frames = new ArrayDeque<>();
+            frames.push(visit(root));
+            while (frames.isEmpty() == false) {
+                final Frame frame = frames.peek();
+                if (frame.edges.hasNext()) {
+                    final Vertex next = frame.edges.next();
+                    if (next.index < 0) {
+                        frames.push(visit(next));
+                    } else if (next.onStack) {
+                        frame.vertex.lowLink = Math.min(frame.vertex.lowLink, next.index);
+                    }
+                    continue;
+                }
+                frames.pop();
+                final Vertex vertex = frame.vertex;
+                if (frames.isEmpty() == false) {
+                    final Vertex parent = frames.peek().vertex;
+                    parent.lowLink = Math.min(parent.lowLink, vertex.lowLink);
+                }
+                if (vertex.lowLink == vertex.index) {
+                    popComponent(vertex);
+                }
+            }
+        }
+
+        /**
+         * 頂点を訪問する。
+         *
+         * @param vertex 頂点
+         * @return 探索の状態
+         */
+        private Frame visit(final Vertex vertex) {
+            vertex.index = nextIndex;
+            vertex.lowLink = nextIndex;
+            nextIndex++;
+            stack.push(vertex);
+            vertex.onStack = true;
+            return new Frame(vertex);
+        }
+
+        /**
+         * 強連結成分をスタックから取り出す。
+         *
+         * <p>複数の頂点からなる強連結成分と、自身に依存する頂点は循環しているとみなす。</p>
+         *
+         * @param root 強連結成分の起点となった頂点
+         */
+        private void popComponent(final Vertex root) {
+            final List<Vertex> members = new ArrayList<>();
+            Vertex vertex;
+            do {
+                vertex = stack.pop();
+                vertex.onStack = false;
+                vertex.component = nextComponent;
+                members.add(vertex);
+            } while (vertex != root);
+            nextComponent++;
+            final boolean cycled = members.size() > 1 || root.edges.contains(root);
+            for (final Vertex member : members) {
+                member.cycled = cycled;
+            }
+        }
+    }
+
+    /**
+     * 探索中の頂点と、まだ辿っていない依存先。
+     *
+     */
+    private static final class Frame {
+
+        /**
+         * 頂点
+         */
+        private final Vertex vertex;
+        /**
+         * まだ辿っていない依存先
+         */
+        private final Iterator<Vertex> edges;
+
+        /**
+         * インスタンスを生成する。
+         *
+         * @param vertex 頂点
+         */
+        Frame(final Vertex vertex) {
+            this.vertex = vertex;
+            this.edges = vertex.edges.iterator();
+        }
+    }
+}
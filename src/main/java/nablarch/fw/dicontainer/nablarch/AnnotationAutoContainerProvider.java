@@ -1,5 +1,6 @@
 package nablarch.fw.dicontainer.nablarch;
 
+import java.nio.file.Paths;
 import java.util.ServiceLoader;
 
 import nablarch.core.log.Logger;
@@ -43,6 +44,15 @@ public final class AnnotationAutoContainerProvider implements Initializable {
     /** コンポーネント抽出条件 */
     private ComponentPredicate componentPredicate = new DefaultComponentPredicate();
 
+    /** コンポーネントのインデックスを使用するか */
+    private boolean useComponentIndex;
+
+    /** ディレクトリトラバーサルを並列に行うか */
+    private boolean parallelTraversal;
+
+    /** ディレクトリトラバーサルの結果のキャッシュファイルのパス */
+    private String scanCacheFile;
+
     /** リクエストコンテキスト取得クラス */
     private RequestContextSupplier requestContextSupplier;
 
@@ -51,8 +61,14 @@ public final class AnnotationAutoContainerProvider implements Initializable {
 
     @Override
     public void initialize() {
-        final AnnotationAutoContainerFactory factory = new AnnotationAutoContainerFactory(
-                annotationContainerBuilder(), traversalConfigs, componentPredicate);
+        final AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(annotationContainerBuilder())
+                .traversalConfigs(traversalConfigs)
+                .predicate(componentPredicate)
+                .useComponentIndex(useComponentIndex)
+                .parallel(parallelTraversal)
+                .scanCacheFile(scanCacheFile != null ? Paths.get(scanCacheFile) : null)
+                .build();
         try {
             final Container container = factory.create();
             Containers.set(container);
@@ -118,6 +134,36 @@ public final class AnnotationAutoContainerProvider implements Initializable {
         this.traversalConfigs = traversalConfigs;
     }
 
+    /**
+     * コンポーネントのインデックスを使用するかを設定する。
+     * インデックスが存在しない場合はディレクトリトラバーサルを行う。
+     *
+     * @param useComponentIndex インデックスを使用する場合、真
+     */
+    public void setUseComponentIndex(final boolean useComponentIndex) {
+        this.useComponentIndex = useComponentIndex;
+    }
+
+    /**
+     * ディレクトリトラバーサルを並列に行うかを設定する。
+     * 並列に行う場合も、コンポーネントの登録順は直列に行う場合と変わらない。
+     *
+     * @param parallelTraversal 並列に行う場合、真
+     */
+    public void setParallelTraversal(final boolean parallelTraversal) {
+        this.parallelTraversal = parallelTraversal;
+    }
+
+    /**
+     * ディレクトリトラバーサルの結果のキャッシュファイルのパスを設定する。
+     * 設定した場合、変更されていないディレクトリやjarファイルはトラバースせずにキャッシュした結果を使用する。
+     *
+     * @param scanCacheFile キャッシュファイルのパス
+     */
+    public void setScanCacheFile(final String scanCacheFile) {
+        this.scanCacheFile = scanCacheFile;
+    }
+
     /**
      *  シングルトンコンポーネントのイーガーロードを行うかを設定する。
      * {@link #setAnnotationContainerBuilder(AnnotationContainerBuilder)}を明示的に設定した場合、
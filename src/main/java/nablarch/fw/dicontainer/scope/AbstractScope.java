@@ -1,6 +1,6 @@
 package nablarch.fw.dicontainer.scope;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import nablarch.fw.dicontainer.component.ComponentDefinition;
@@ -13,9 +13,9 @@ import nablarch.fw.dicontainer.component.ComponentId;
 public abstract class AbstractScope implements Scope {
 
     /**
-     * IDとコンポーネント定義のマッピング
+     * IDとコンポーネント定義のマッピング。登録した順序を保持する
      */
-    protected final Map<ComponentId, ComponentDefinition<?>> idToDefinition = new HashMap<>();
+    protected final Map<ComponentId, ComponentDefinition<?>> idToDefinition = new LinkedHashMap<>();
 
     @Override
     public <T> void register(final ComponentDefinition<T> definition) {
@@ -20,6 +20,30 @@ public interface Scope {
      */
     <T> T getComponent(ComponentId id, Provider<T> provider);
 
+    /**
+     * コンポーネント定義をもとにコンポーネントを取得する。
+     * 
+     * <p>デフォルトでは{@link #getComponent(ComponentId, Provider)}に委譲する。
+     * コンポーネント定義のインデックスを利用して取得を高速化するスコープはこのメソッドをオーバーライドする。</p>
+     * 
+     * @param definition コンポーネント定義
+     * @param provider コンポーネントをインスタンス化するためのプロバイダ
+     * @return コンポーネント
+     */
+    default <T> T getComponent(final ComponentDefinition<T> definition, final Provider<T> provider) {
+        return getComponent(definition.getId(), provider);
+    }
+
+    /**
+     * コンポーネント定義にインデックスが割り当てられた後、DIコンテナの構築時に呼び出される。
+     * 
+     * <p>インデックスをもとにコンポーネントを保持するスコープは、ここで保持領域を確保する。
+     * 同じスコープを複数のDIコンテナで共有している場合は、DIコンテナごとに呼び出される。
+     * デフォルト実装では何も行わない。</p>
+     */
+    default void prepare() {
+    }
+
     /**
      * コンポーネント定義を登録する。
      * 
@@ -1,5 +1,6 @@
 package nablarch.fw.dicontainer.scope;
 
+import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.Lock;
@@ -18,13 +19,30 @@ import nablarch.fw.dicontainer.event.ContainerDestroy;
 /**
  * シングルトンスコープ。
  *
+ * <p>インスタンスホルダーは、DIコンテナの構築時に{@link #prepare()}で
+ * コンポーネント定義のインデックスの位置に確保する。
+ * DIコンテナからの取得は、インデックスの位置のインスタンスホルダーが保持するコンポーネント定義を
+ * 参照の比較で確認して行い、ハッシュ探索は行わない。初期化済みのコンポーネントはロックを取得せずに返す。</p>
+ *
+ * <p>このスコープを複数のDIコンテナで共有すると、異なるコンポーネント定義が同じインデックスを持つことがあるため、
+ * 同じ位置のインスタンスホルダーを連結して先頭から順に探す。
+ * また、DIコンテナを介さずに登録されていないIDで{@link #getComponent(ComponentId, Provider)}を呼び出した場合は、
+ * IDをキーにしたマッピングでインスタンスホルダーを保持する。</p>
+ *
  */
 public final class SingletonScope extends AbstractScope {
 
     /**
-     * IDとインスタンスホルダーのマッピング
+     * コンポーネント定義のインデックスの位置に、インスタンスホルダーを保持する配列。
+     * 同じスコープを複数のDIコンテナで共有し、異なるコンポーネント定義が同じインデックスを持つ場合は、
+     * インスタンスホルダーを連結して保持する。
      */
-    private final ConcurrentMap<ComponentId, InstanceHolder> instances = new ConcurrentHashMap<>();
+    private volatile InstanceHolder[] slots = new InstanceHolder[0];
+    /**
+     * インデックスが割り当てられていないIDとインスタンスホルダーのマッピング。
+     * DIコンテナを介さずに{@link #getComponent(ComponentId, Provider)}を呼び出した場合のみ使用する。
+     */
+    private final ConcurrentMap<ComponentId, InstanceHolder> unindexed = new ConcurrentHashMap<>();
     /**
      * イーガーロードをする場合は{@literal true}
      */
@@ -54,15 +72,78 @@ public final class SingletonScope extends AbstractScope {
 
     @Override
     public <T> T getComponent(final ComponentId id, final Provider<T> provider) {
-        InstanceHolder instanceHolder = instances.get(id);
-        if (instanceHolder == null) {
-            instanceHolder = new InstanceHolder();
-            final InstanceHolder previous = instances.putIfAbsent(id, instanceHolder);
-            if (previous != null && instanceHolder != previous) {
-                instanceHolder = previous;     // getからputIfAbsentまでの間に競合が発生した場合、先にputされたvalueを使う
+        final ComponentDefinition<?> definition = idToDefinition.get(id);
+        if (definition != null) {
+            final InstanceHolder instanceHolder = findSlot(definition);
+            if (instanceHolder != null) {
+                return instanceHolder.get(provider);
+            }
+        }
+        return unindexed.computeIfAbsent(id, key -> new InstanceHolder(null, null))
+                .get(provider);
+    }
+
+    @Override
+    public <T> T getComponent(final ComponentDefinition<T> definition,
+            final Provider<T> provider) {
+        final InstanceHolder instanceHolder = findSlot(definition);
+        if (instanceHolder != null) {
+            return instanceHolder.get(provider);
+        }
+        return getComponent(definition.getId(), provider);
+    }
+
+    /**
+     * 登録されたコンポーネント定義のインデックスの位置に、インスタンスホルダーを確保する。
+     * 
+     * <p>既に確保したインスタンスホルダーは引き継ぐ。</p>
+     */
+    @Override
+    public synchronized void prepare() {
+        int size = slots.length;
+        for (final ComponentDefinition<?> definition : idToDefinition.values()) {
+            size = Math.max(size, definition.getIndex() + 1);
+        }
+        final InstanceHolder[] prepared = Arrays.copyOf(slots, size);
+        for (final ComponentDefinition<?> definition : idToDefinition.values()) {
+            final int index = definition.getIndex();
+            if (index >= 0 && find(prepared[index], definition) == null) {
+                prepared[index] = new InstanceHolder(definition, prepared[index]);
+            }
+        }
+        slots = prepared;
+    }
+
+    /**
+     * コンポーネント定義のインデックスの位置に確保したインスタンスホルダーを取得する。
+     * 
+     * @param definition コンポーネント定義
+     * @return インスタンスホルダー。確保していない場合は{@literal null}
+     */
+    private InstanceHolder findSlot(final ComponentDefinition<?> definition) {
+        final int index = definition.getIndex();
+        final InstanceHolder[] current = slots;
+        if (index < 0 || index >= current.length) {
+            return null;
+        }
+        return find(current[index], definition);
+    }
+
+    /**
+     * 連結したインスタンスホルダーから、コンポーネント定義に対応するものを探す。
+     * 
+     * @param head 先頭のインスタンスホルダー
+     * @param definition コンポーネント定義
+     * @return インスタンスホルダー。存在しない場合は{@literal null}
+     */
+    private static InstanceHolder find(final InstanceHolder head,
+            final ComponentDefinition<?> definition) {
+        for (InstanceHolder holder = head; holder != null; holder = holder.next) {
+            if (holder.definition == definition) {
+                return holder;
             }
         }
-        return instanceHolder.get(provider);
+        return null;
     }
 
     /**
@@ -73,9 +154,9 @@ public final class SingletonScope extends AbstractScope {
     @Observes
     public void init(final ContainerCreated event) {
         if (eagerLoad) {
-            idToDefinition.forEach((id, definition) -> {
+            for (final ComponentDefinition<?> definition : idToDefinition.values()) {
                 definition.getComponent(container);
-            });
+            }
         }
     }
 
@@ -86,12 +167,15 @@ public final class SingletonScope extends AbstractScope {
      */
     @Observes
     public void destroy(final ContainerDestroy event) {
-        idToDefinition.forEach((id, definition) -> {
-            final InstanceHolder holder = instances.get(id);
+        for (final ComponentDefinition<?> definition : idToDefinition.values()) {
+            InstanceHolder holder = findSlot(definition);
+            if (holder == null) {
+                holder = unindexed.get(definition.getId());
+            }
             if (holder != null) {
                 holder.destroy((ComponentDefinition<Object>) definition);
             }
-        });
+        }
     }
 
     @Override
@@ -105,9 +189,26 @@ public final class SingletonScope extends AbstractScope {
      */
     private static class InstanceHolder {
 
-        Object instance;
+        /**
+         * コンポーネント定義。インデックスが割り当てられていない場合は{@literal null}
+         */
+        final ComponentDefinition<?> definition;
+        /**
+         * 同じインデックスを持つ別のコンポーネント定義のインスタンスホルダー
+         */
+        final InstanceHolder next;
+        /**
+         * インスタンス。
+         * 初期化済みであればロックを取得せずに参照できるようvolatileとしている。
+         */
+        volatile Object instance;
         final Lock lock = new ReentrantLock();
 
+        InstanceHolder(final ComponentDefinition<?> definition, final InstanceHolder next) {
+            this.definition = definition;
+            this.next = next;
+        }
+
         void destroy(final ComponentDefinition<Object> definition) {
             lock.lock();
             try {
@@ -119,7 +220,12 @@ public final class SingletonScope extends AbstractScope {
             }
         }
 
+        @SuppressWarnings("unchecked")
         <T> T get(final Provider<T> provider) {
+            final Object current = instance;
+            if (current != null) {
+                return (T) current;
+            }
             lock.lock();
             try {
                 if (instance == null) {
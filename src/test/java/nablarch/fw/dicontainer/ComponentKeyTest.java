@@ -3,11 +3,19 @@ package nablarch.fw.dicontainer;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.inject.Named;
+import javax.inject.Qualifier;
 
 import org.junit.Test;
 
@@ -78,9 +86,73 @@ public class ComponentKeyTest {
 
     }
 
+    @Test
+    public void testNamed() {
+        ComponentKey<?> key = ComponentKey.named(Ccc1.class, "foo");
+        ComponentKey<?> fromImpl = new ComponentKey<>(Ccc1.class, new NamedImpl("foo"));
+        ComponentKey<?> fromProxy = new ComponentKey<>(Ccc1.class,
+                Ccc2.class.getAnnotation(Named.class));
+        assertThat(key, is(fromImpl));
+        assertThat(key, is(fromProxy));
+        assertThat(key.hashCode(), is(fromProxy.hashCode()));
+        assertThat(key.equals(ComponentKey.named(Ccc1.class, "bar")), is(false));
+        assertThat(key.asAliasKey(), is(fromProxy.asAliasKey()));
+    }
+
+    @Test
+    public void testQualifierWithMembers() {
+        ComponentKey<?> key1 = new ComponentKey<>(Ddd.class, Ddd.class.getAnnotation(Qux.class));
+        ComponentKey<?> key2 = new ComponentKey<>(Ddd.class, Ddd.class.getAnnotation(Qux.class));
+        ComponentKey<?> key3 = new ComponentKey<>(Ddd.class, Eee.class.getAnnotation(Qux.class));
+        assertThat(key1, is(key2));
+        assertThat(key1.hashCode(), is(key2.hashCode()));
+        assertThat(key1.equals(key3), is(false));
+        assertThat(key1.toString(), is(Ddd.class.getName() + "(@" + Qux.class.getName()
+                + "(names=[a, b], value=1))"));
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        ComponentKey<?> key = new ComponentKey<>(Ddd.class, Ddd.class.getAnnotation(Qux.class));
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(key);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new ByteArrayInputStream(baos.toByteArray()))) {
+            Object deserialized = ois.readObject();
+            assertThat(deserialized, is((Object) key));
+            assertThat(deserialized.hashCode(), is(key.hashCode()));
+        }
+    }
+
+    @Test
+    public void testSerialVersionUID() throws Exception {
+        assertThat(ObjectStreamClass.lookup(ComponentKey.class).getSerialVersionUID(), is(1L));
+        assertThat(ObjectStreamClass.lookup(
+                Class.forName("nablarch.fw.dicontainer.component.QualifierToken"))
+                .getSerialVersionUID(), is(1L));
+    }
+
     static class Aaa {
     }
 
+    @Qualifier
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Qux {
+        int value();
+
+        String[] names();
+    }
+
+    @Qux(value = 1, names = { "a", "b" })
+    static class Ddd {
+    }
+
+    @Qux(value = 2, names = { "a", "b" })
+    static class Eee {
+    }
+
     interface Bbb1 {
     }
 
@@ -3,6 +3,7 @@ package nablarch.fw.dicontainer;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -15,6 +16,8 @@ import javax.inject.Singleton;
 import org.junit.Test;
 
 import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentKey;
+import nablarch.fw.dicontainer.exception.ComponentDuplicatedException;
 import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
 
 public class ContainerTest {
@@ -183,6 +186,22 @@ public class ContainerTest {
         assertTrue(component.component == component.provider.get());
     }
 
+    @Test
+    public void injectionProviderReused() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Hhh2.class)
+                .register(Aaa.class)
+                .build();
+
+        final Hhh2 component1 = container.getComponent(Hhh2.class);
+        final Hhh2 component2 = container.getComponent(Hhh2.class);
+
+        assertNotSame(component1, component2);
+        assertSame(component1.provider, component2.provider);
+        assertSame(component1.component, component2.provider.get());
+    }
+
     @Test
     public void injectionOrder() throws Exception {
 
@@ -210,6 +229,80 @@ public class ContainerTest {
         }
     }
 
+    @Test
+    public void componentNotFoundRepeatedly() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                container.getComponent(Aaa.class);
+                fail();
+            } catch (final ComponentNotFoundException e) {
+                assertEquals("key=" + Aaa.class.getName(), e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void componentDuplicatedRepeatedly() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Qualifier2.class)
+                .register(Qualifier3.class)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                container.getComponent(Qualifier1.class);
+                fail();
+            } catch (final ComponentDuplicatedException e) {
+            }
+        }
+    }
+
+    @Test
+    public void getComponentByInterfaceRepeatedly() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Aaa.class)
+                .register(Bbb4.class)
+                .build();
+
+        final Bbb1 component1 = container.getComponent(Bbb1.class);
+        final Bbb1 component2 = container.getComponent(Bbb1.class);
+
+        assertTrue(component1.getClass() == Bbb4.class);
+        assertTrue(component2.getClass() == Bbb4.class);
+    }
+
+    @Test
+    public void handle() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Aaa.class)
+                .register(Bbb4.class)
+                .build();
+
+        final ComponentHandle<Aaa> singleton = container.handle(new ComponentKey<>(Aaa.class));
+        final ComponentHandle<Bbb1> prototype = container.handle(new ComponentKey<>(Bbb1.class));
+
+        assertTrue(singleton.get() == container.getComponent(Aaa.class));
+        assertTrue(prototype.get().getClass() == Bbb4.class);
+        assertTrue(prototype.get() != prototype.get());
+    }
+
+    @Test
+    public void handleComponentNotFound() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .build();
+
+        try {
+            container.handle(new ComponentKey<>(Aaa.class));
+            fail();
+        } catch (final ComponentNotFoundException e) {
+        }
+    }
+
     @Test
     public void eagerLoad() throws Exception {
 
@@ -263,6 +356,21 @@ public class ContainerTest {
         assertTrue(component2.getClass() == Qualifier3.class);
     }
 
+    @Test
+    public void getComponentWithName() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Qualifier2.class)
+                .register(Qualifier3.class)
+                .build();
+
+        final Qualifier1 component1 = container.getComponent(Qualifier1.class, "foo");
+        final Qualifier1 component2 = container.getComponent(Qualifier1.class, "bar");
+
+        assertTrue(component1.getClass() == Qualifier2.class);
+        assertTrue(component2.getClass() == Qualifier3.class);
+    }
+
     @Test
     public void getComponentWithQualifierViaClassOnly() throws Exception {
 
@@ -325,6 +433,59 @@ public class ContainerTest {
         assertTrue(componentClasses.contains(Jjj3.class));
     }
 
+    @Test
+    public void getComponentsOrdered() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Jjj3.class)
+                .register(Jjj1.class)
+                .register(Jjj2.class)
+                .build();
+
+        final List<Class<?>> componentClasses = container.getComponents(Jjj1.class).stream()
+                .map(Jjj1::getClass)
+                .collect(Collectors.toList());
+
+        assertEquals(Arrays.asList(Jjj1.class, Jjj3.class, Jjj2.class), componentClasses);
+    }
+
+    @Test
+    public void getComponentsCached() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .cacheSingletonComponents(true)
+                .register(Jjj1.class)
+                .register(Jjj2.class)
+                .build();
+
+        final Set<Jjj1> components1 = container.getComponents(Jjj1.class);
+        final Set<Jjj1> components2 = container.getComponents(Jjj1.class);
+
+        assertSame(components1, components2);
+        assertEquals(2, components1.size());
+        try {
+            components1.clear();
+            fail();
+        } catch (final UnsupportedOperationException e) {
+        }
+    }
+
+    @Test
+    public void getComponentsNotCachedForPrototype() throws Exception {
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .cacheSingletonComponents(true)
+                .register(Qualifier2.class)
+                .register(Qualifier3.class)
+                .build();
+
+        final Set<Qualifier1> components1 = container.getComponents(Qualifier1.class);
+        final Set<Qualifier1> components2 = container.getComponents(Qualifier1.class);
+
+        assertNotSame(components1, components2);
+        assertEquals(2, components1.size());
+    }
+
     @Test
     public void getComponentsNoComponents() throws Exception {
 
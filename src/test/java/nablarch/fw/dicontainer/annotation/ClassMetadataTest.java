@@ -0,0 +1,82 @@
+package nablarch.fw.dicontainer.annotation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+
+import javax.inject.Inject;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.overridedemo.OverrideDemo1;
+import nablarch.fw.dicontainer.overridedemo.OverrideDemo2;
+
+public class ClassMetadataTest {
+
+    /** 同じクラスに対しては、キャッシュしたインスタンスが返されること。 */
+    @Test
+    public void cached() throws Exception {
+        assertSame(ClassMetadata.of(Bbb.class), ClassMetadata.of(Bbb.class));
+    }
+
+    /** オーバーライドされたメソッドは含まれないこと。 */
+    @Test
+    public void methods() throws Exception {
+        final ClassMetadata sut = ClassMetadata.of(OverrideDemo2.class);
+
+        assertTrue(sut.getMethods().contains(OverrideDemo2.class.getDeclaredMethod("method1")));
+        assertFalse(sut.getMethods().contains(OverrideDemo1.class.getDeclaredMethod("method1")));
+        assertTrue(sut.getMethods().contains(OverrideDemo1.class.getDeclaredMethod("method4")));
+        assertTrue(sut.getMethods()
+                .contains(OverrideDemo2.class.getDeclaredMethod("method5", String.class)));
+    }
+
+    /** フィールドはサブクラスから順に並ぶこと。 */
+    @Test
+    public void fields() throws Exception {
+        final ClassMetadata sut = ClassMetadata.of(Bbb.class);
+
+        assertThat(sut.getClassInheritances(),
+                is(Arrays.<Class<?>> asList(Bbb.class, Aaa.class)));
+        assertThat(sut.getFields(), is(Arrays.asList(
+                Bbb.class.getDeclaredField("bbb"),
+                Aaa.class.getDeclaredField("aaa"))));
+        assertThat(sut.getFieldsAnnotatedWith(Inject.class), is(Arrays.asList(
+                Aaa.class.getDeclaredField("aaa"))));
+        assertThat(sut.getMethodsAnnotatedWith(Inject.class), is(Arrays.asList(
+                Bbb.class.getDeclaredMethod("setCcc", Object.class))));
+    }
+
+    /** インターフェースはクラス階層を辿らないこと。 */
+    @Test
+    public void interfaceType() throws Exception {
+        final ClassMetadata sut = ClassMetadata.of(Runnable.class);
+
+        assertThat(sut.getClassInheritances(), is(Collections.<Class<?>> emptyList()));
+        assertThat(sut.getFields(), is(Collections.<Field> emptyList()));
+        assertThat(sut.getMethods(), is(Collections.<Method> emptyList()));
+    }
+
+    /** 取得した情報は変更できないこと。 */
+    @Test(expected = UnsupportedOperationException.class)
+    public void unmodifiable() throws Exception {
+        ClassMetadata.of(Bbb.class).getFields().clear();
+    }
+
+    private static class Aaa {
+        @Inject
+        Object aaa;
+    }
+
+    private static class Bbb extends Aaa {
+        Object bbb;
+
+        @Inject
+        void setCcc(final Object ccc) {
+        }
+    }
+}
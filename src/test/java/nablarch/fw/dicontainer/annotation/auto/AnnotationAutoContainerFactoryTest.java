@@ -4,6 +4,7 @@ import static org.junit.Assert.*;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -11,7 +12,9 @@ import java.util.Optional;
 import java.util.Set;
 
 import nablarch.fw.dicontainer.exception.ContainerCreationException;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import nablarch.core.log.Logger;
 import nablarch.core.log.LoggerManager;
@@ -32,6 +35,9 @@ import nablarch.fw.dicontainer.annotation.auto.demo.Auto2;
 import nablarch.fw.dicontainer.annotation.auto.demo.Auto3;
 import nablarch.fw.dicontainer.annotation.auto.demo.NotComponent;
 import nablarch.fw.dicontainer.annotation.auto.demo.subpkg.Auto4;
+import nablarch.fw.dicontainer.annotation.auto.index.Indexed1;
+import nablarch.fw.dicontainer.annotation.auto.index.Indexed2;
+import nablarch.fw.dicontainer.annotation.auto.index.NotIndexed;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.DestroyMethod;
 import nablarch.fw.dicontainer.component.ErrorCollector;
@@ -47,13 +53,15 @@ import nablarch.fw.dicontainer.component.impl.DefaultInjectableConstructor;
 import nablarch.fw.dicontainer.component.impl.InjectableField;
 import nablarch.fw.dicontainer.component.impl.InjectionComponentResolvers;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
 import nablarch.fw.dicontainer.scope.ScopeDecider;
 import nablarch.fw.dicontainer.scope.SingletonScope;
 
 public class AnnotationAutoContainerFactoryTest {
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void create() throws Exception {
         final Iterable<TraversalConfig> traversalConfigs = Collections
@@ -81,6 +89,149 @@ public class AnnotationAutoContainerFactoryTest {
         }
     }
 
+    @Test
+    public void createWithComponentIndex() throws Exception {
+        final Iterable<TraversalConfig> traversalConfigs = Collections
+                .singleton(new TraversalConfig() {
+                    @Override
+                    public Set<String> includes() {
+                        return Collections.singleton(
+                                "^nablarch\\.fw\\.dicontainer\\.annotation\\.auto\\.index\\..*$$");
+                    }
+                });
+        final AnnotationContainerBuilder containerBuilder = AnnotationContainerBuilder
+                .createDefault();
+        final AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(containerBuilder)
+                .traversalConfigs(traversalConfigs)
+                .predicate(new DefaultComponentPredicate())
+                .useComponentIndex(true)
+                .build();
+        final Container container = factory.create();
+
+        assertNotNull(container.getComponent(Indexed1.class));
+        assertNotNull(container.getComponent(Indexed2.class, new NamedImpl("indexed")));
+        try {
+            // インデックスに含まれないクラスは登録されない
+            container.getComponent(NotIndexed.class);
+            fail();
+        } catch (final ComponentNotFoundException e) {
+        }
+    }
+
+    /** 独自の条件を設定した場合はインデックスを使用せず、インデックスに含まれないクラスも判定されること。 */
+    @Test
+    public void createWithComponentIndexAndCustomPredicate() throws Exception {
+        final Iterable<TraversalConfig> traversalConfigs = Collections
+                .singleton(new TraversalConfig() {
+                    @Override
+                    public Set<String> includes() {
+                        return Collections.singleton(
+                                "^nablarch\\.fw\\.dicontainer\\.annotation\\.auto\\.index\\..*$$");
+                    }
+                });
+        final Container container = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .predicate(clazz -> true)
+                .useComponentIndex(true)
+                .build()
+                .create();
+
+        assertNotNull(container.getComponent(Indexed1.class));
+        assertNotNull(container.getComponent(NotIndexed.class));
+    }
+
+    @Test
+    public void createInParallel() throws Exception {
+        final Iterable<TraversalConfig> traversalConfigs = Collections
+                .singleton(new TraversalConfig() {
+                    @Override
+                    public Set<String> includes() {
+                        return Collections.singleton(
+                                "^nablarch\\.fw\\.dicontainer\\.annotation\\.auto\\.demo\\..*$$");
+                    }
+                });
+        final AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .parallel(true)
+                .build();
+        final Container container = factory.create();
+
+        assertNotNull(container.getComponent(Auto1.class));
+        assertNotNull(container.getComponent(Auto2.class));
+        assertNotNull(container.getComponent(Auto3.class, new NamedImpl("")));
+        assertNotNull(container.getComponent(Auto4.class));
+    }
+
+    /** 並列に行った場合も、直列に行った場合と同じ順序で判定されること。 */
+    @Test
+    public void createInParallelKeepsOrder() throws Exception {
+        final List<TraversalConfig> traversalConfigs = new ArrayList<>();
+        traversalConfigs.add(new CustomDIConfig());
+        traversalConfigs.add(new TraversalConfig() {
+        });
+        final List<Class<?>> serial = new ArrayList<>();
+        AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .predicate(clazz -> serial.add(clazz) && false)
+                .build()
+                .create();
+        final List<Class<?>> parallel = new ArrayList<>();
+        AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .predicate(clazz -> parallel.add(clazz) && false)
+                .parallel(true)
+                .build()
+                .create();
+
+        assertTrue(serial.contains(Custom1.class));
+        assertTrue(serial.contains(Auto1.class));
+        assertEquals(serial, parallel);
+    }
+
+    /** 2回目以降はキャッシュしたクラスだけが判定されること。 */
+    @Test
+    public void createWithScanCache() throws Exception {
+        final Iterable<TraversalConfig> traversalConfigs = Collections
+                .singleton(new TraversalConfig() {
+                    @Override
+                    public Set<String> includes() {
+                        return Collections.singleton(
+                                "^nablarch\\.fw\\.dicontainer\\.annotation\\.auto\\.demo\\..*$$");
+                    }
+                });
+        final Path scanCacheFile = temporaryFolder.newFile("scan.bin").toPath();
+        final List<Class<?>> tested = new ArrayList<>();
+        final ComponentPredicate predicate = clazz -> tested.add(clazz)
+                && new DefaultComponentPredicate().test(clazz);
+        final AnnotationAutoContainerFactory factory = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .predicate(predicate)
+                .scanCacheFile(scanCacheFile)
+                .build();
+        factory.create();
+        assertTrue(tested.contains(NotComponent.class));
+
+        tested.clear();
+        final Container container = AnnotationAutoContainerFactory.builder()
+                .containerBuilder(AnnotationContainerBuilder.createDefault())
+                .traversalConfigs(traversalConfigs)
+                .predicate(predicate)
+                .scanCacheFile(scanCacheFile)
+                .build()
+                .create();
+
+        assertFalse(tested.contains(NotComponent.class));
+        assertTrue(tested.contains(Auto1.class));
+        assertNotNull(container.getComponent(Auto1.class));
+        assertNotNull(container.getComponent(Auto4.class));
+    }
+
     @Test
     public void customize() throws Exception {
         final Iterable<TraversalConfig> traversalConfigs = Collections
@@ -266,9 +417,5 @@ public class AnnotationAutoContainerFactoryTest {
         public void validate(final ContainerBuilder<?> containerBuilder,
                 final ComponentDefinition<?> self) {
         }
-
-        @Override
-        public void validateCycleDependency(final CycleDependencyValidationContext context) {
-        }
     }
 }
@@ -0,0 +1,121 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Target;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.annotation.auto.demo.Auto1;
+import nablarch.fw.dicontainer.annotation.auto.demo.NotComponent;
+
+public class ClassFileTest {
+
+    private final ClassLoader classLoader = getClass().getClassLoader();
+
+    @Test
+    public void read() throws Exception {
+        final ClassFile classFile = ClassFile.read(classLoader, Auto1.class.getName()).get();
+
+        assertThat(classFile.getClassName(), is(Auto1.class.getName()));
+        assertThat(classFile.getSuperClassName(), is(Object.class.getName()));
+        assertThat(classFile.getAnnotationTypeNames(), is(Arrays.asList(Singleton.class.getName())));
+    }
+
+    @Test
+    public void readNoAnnotation() throws Exception {
+        final ClassFile classFile = ClassFile.read(classLoader, NotComponent.class.getName())
+                .get();
+
+        assertThat(classFile.getAnnotationTypeNames(), is(Collections.<String> emptyList()));
+    }
+
+    /** 様々な定数と要素の値を持つクラスファイルを解析できること。 */
+    @Test
+    public void readComplexClass() throws Exception {
+        final ClassFile classFile = ClassFile.read(classLoader, Complex.class.getName()).get();
+
+        assertThat(classFile.getClassName(), is(Complex.class.getName()));
+        assertThat(classFile.getSuperClassName(), is(Base.class.getName()));
+        assertThat(classFile.getAnnotationTypeNames(),
+                is(Arrays.asList(Values.class.getName(), Named.class.getName())));
+    }
+
+    @Test
+    public void readInterface() throws Exception {
+        final ClassFile classFile = ClassFile.read(classLoader, Serializable.class.getName())
+                .get();
+
+        assertThat(classFile.getSuperClassName(), is(Object.class.getName()));
+    }
+
+    @Test
+    public void readObject() throws Exception {
+        final ClassFile classFile = ClassFile.read(classLoader, Object.class.getName()).get();
+
+        assertThat(classFile.getSuperClassName(), is(nullValue()));
+    }
+
+    @Test
+    public void readNotFound() throws Exception {
+        assertFalse(ClassFile.read(classLoader, "foo.bar.NotFound").isPresent());
+    }
+
+    @Test(expected = IOException.class)
+    public void parseNotClassFile() throws Exception {
+        ClassFile.parse(new ByteArrayInputStream("not a class file".getBytes("UTF-8")));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    @interface Values {
+        int i();
+        long l();
+        double d();
+        String s();
+        Class<?> c();
+        ElementType e();
+        Named a();
+        String[] array();
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+    }
+
+    static class Base {
+    }
+
+    @Invisible
+    @Values(i = 1, l = Long.MAX_VALUE, d = 1.5, s = "s", c = String.class, e = ElementType.TYPE,
+            a = @Named("nested"), array = { "a", "b" })
+    @Named("complex")
+    static class Complex extends Base implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final long l = System.nanoTime();
+        private final double d = Math.random();
+
+        @Deprecated
+        long method(final Runnable r) {
+            r.run();
+            return l + (long) d;
+        }
+
+        Runnable lambda() {
+            return () -> method(null);
+        }
+    }
+}
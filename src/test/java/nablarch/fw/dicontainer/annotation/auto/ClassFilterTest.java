@@ -96,4 +96,85 @@ public class ClassFilterTest {
         assertFalse(classFilter.select("aaa.bbb.ccc.Sss"));
         assertFalse(classFilter.select("xxx.yyy.zzz.Sss"));
     }
+
+    /** パターン内の選択がまとめたパターンの他の選択と混ざらないこと。 */
+    @Test
+    public void alternationInPattern() throws Exception {
+        final TraversalConfig traversalConfig = new TraversalConfig() {
+            @Override
+            public Set<String> includes() {
+                return Stream.of(
+                        "aaa\\.Bbb|aaa\\.Ccc",
+                        "^xxx\\..*$").collect(Collectors.toSet());
+            }
+        };
+        final ClassFilter classFilter = ClassFilter.valueOf(traversalConfig);
+
+        assertTrue(classFilter.select("aaa.Bbb"));
+        assertTrue(classFilter.select("aaa.Ccc"));
+        assertTrue(classFilter.select("xxx.Yyy"));
+        assertFalse(classFilter.select("aaa.Bbbx"));
+        assertTrue(classFilter.mayIncludePackage("zzz"));
+    }
+
+    /** 後方参照を含むパターンも判定できること。 */
+    @Test
+    public void backReference() throws Exception {
+        final TraversalConfig traversalConfig = new TraversalConfig() {
+            @Override
+            public Set<String> includes() {
+                return Stream.of(
+                        "^(a+)\\.\\1$",
+                        "^(x+)\\.(y+)\\.\\2$").collect(Collectors.toSet());
+            }
+        };
+        final ClassFilter classFilter = ClassFilter.valueOf(traversalConfig);
+
+        assertTrue(classFilter.select("aa.aa"));
+        assertFalse(classFilter.select("aa.a"));
+        assertTrue(classFilter.select("x.yy.yy"));
+        assertFalse(classFilter.select("x.yy.y"));
+    }
+
+    @Test
+    public void mayIncludePackage() throws Exception {
+        final TraversalConfig traversalConfig = new TraversalConfig() {
+            @Override
+            public Set<String> includes() {
+                return Stream.of(
+                        "^aaa\\.bbb\\..*$",
+                        "^xxx\\.yy?\\..*$").collect(Collectors.toSet());
+            }
+        };
+        final ClassFilter classFilter = ClassFilter.valueOf(traversalConfig);
+
+        assertTrue(classFilter.mayIncludePackage(""));
+        assertTrue(classFilter.mayIncludePackage("aaa"));
+        assertTrue(classFilter.mayIncludePackage("aaa.bbb"));
+        assertTrue(classFilter.mayIncludePackage("aaa.bbb.ccc"));
+        assertFalse(classFilter.mayIncludePackage("aaa.bb"));
+        assertFalse(classFilter.mayIncludePackage("aaa.ccc"));
+        assertTrue(classFilter.mayIncludePackage("xxx.y"));
+        assertTrue(classFilter.mayIncludePackage("xxx.yy"));
+        assertFalse(classFilter.mayIncludePackage("ppp"));
+    }
+
+    /** 含めるパターンがない場合は、すべてのパッケージを対象とすること。 */
+    @Test
+    public void mayIncludePackageWithoutIncludes() throws Exception {
+        final ClassFilter classFilter = ClassFilter.allClasses();
+
+        assertTrue(classFilter.mayIncludePackage("aaa"));
+    }
+
+    @Test
+    public void literalPrefix() throws Exception {
+        assertEquals("aaa.bbb.", ClassFilter.literalPrefix("^aaa\\.bbb\\..*$"));
+        assertEquals("aaa.bbb.", ClassFilter.literalPrefix("aaa\\.bbb\\.[A-Z].*"));
+        assertEquals("aaa.b", ClassFilter.literalPrefix("^aaa\\.bb*"));
+        assertEquals("", ClassFilter.literalPrefix("^.*\\.Ccc$"));
+        assertEquals("", ClassFilter.literalPrefix("aaa|bbb"));
+        assertEquals("", ClassFilter.literalPrefix("(?i)aaa"));
+        assertEquals("Outer$", ClassFilter.literalPrefix("Outer\\$.*"));
+    }
 }
@@ -9,8 +9,13 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.security.CodeSource;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 
 import nablarch.fw.dicontainer.exception.ClassTraversingException;
@@ -23,6 +28,11 @@ import org.junit.runners.Suite;
 
 import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.annotation.auto.demo.Auto1;
+import nablarch.fw.dicontainer.annotation.auto.demo.Auto2;
+import nablarch.fw.dicontainer.annotation.auto.demo.Auto3;
+import nablarch.fw.dicontainer.annotation.auto.demo.NotComponent;
+import nablarch.fw.dicontainer.annotation.auto.demo.subpkg.Auto4;
 
 public class ClassTraverserTest {
 
@@ -57,6 +67,148 @@ public class ClassTraverserTest {
         assertTrue(classes.contains(Assert.class));
     }
 
+    /** 複数の起点クラスをまとめてトラバーサルした場合、起点クラスごとに行った場合と同じクラスが同じ順序で振り分けられること。*/
+    @Test
+    public void traverseEach() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final List<Class<?>> baseClasses = Arrays.asList(Auto1.class, Auto4.class,
+                ClassTraverserTest.class);
+        final List<ClassFilter> classFilters = Arrays.asList(ClassFilter.allClasses(),
+                ClassFilter.allClasses(), ClassFilter.valueOf(new TraversalConfig() {
+                    @Override
+                    public Set<String> excludes() {
+                        return Collections.singleton("^.*\\.demo\\..*$");
+                    }
+                }));
+        final List<List<Class<?>>> expected = new ArrayList<>();
+        for (int i = 0; i < baseClasses.size(); i++) {
+            final List<Class<?>> classes = new ArrayList<>();
+            new ClassTraverser(classLoader, baseClasses.get(i), classFilters.get(i))
+                    .traverse(classes::add);
+            expected.add(classes);
+        }
+        final ClassTraverser traverser = new ClassTraverser(classLoader, baseClasses,
+                classFilters, null);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(expected, traverser.traverseEach(false));
+            assertEquals(expected, pool.submit(() -> traverser.traverseEach(true)).join());
+        } finally {
+            pool.shutdown();
+        }
+        assertTrue(expected.get(0).contains(Auto4.class));
+        assertFalse(expected.get(1).contains(Auto1.class));
+        assertFalse(expected.get(2).contains(Auto1.class));
+        assertTrue(expected.get(2).contains(ClassTraverserTest.class));
+    }
+
+    /** 並列に行った場合も、直列に行った場合と同じ順序で処理が適用されること。*/
+    @Test
+    public void traverseInParallel() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClassTraverser traverser = new ClassTraverser(classLoader,
+                Container.class, ClassFilter.allClasses());
+        final List<Class<?>> serial = new ArrayList<>();
+        traverser.traverse(serial::add);
+        final List<Class<?>> parallel;
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel = pool.submit(() -> traverser.traverseEach(true)).join().get(0);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(parallel.contains(ClassTraverser.class));
+        assertEquals(serial, parallel);
+    }
+
+    /** jarファイルを並列に処理した場合も、直列に行った場合と同じ順序で処理が適用されること。*/
+    @Test
+    public void traverseJarFileInParallel() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClassTraverser traverser = new ClassTraverser(classLoader, Test.class,
+                ClassFilter.allClasses());
+        final List<Class<?>> serial = new ArrayList<>();
+        traverser.traverse(serial::add);
+        final List<Class<?>> parallel;
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            parallel = pool.submit(() -> traverser.traverseEach(true)).join().get(0);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(parallel.contains(Runner.class));
+        assertEquals(serial, parallel);
+    }
+
+    /** jarファイルでも、クラスファイルによる事前判定で候補とならないクラスはロードされないこと。*/
+    @Test
+    public void traverseJarFileWithPreFilter() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClassTraverser traverser = new ClassTraverser(classLoader, javax.inject.Inject.class,
+                ClassFilter.allClasses(), new DefaultComponentPredicate());
+        final Set<Class<?>> classes = new HashSet<>();
+        traverser.traverse(classes::add);
+
+        // javax.injectのjarにはスコープや限定子が付与されたクラスは存在しない
+        assertTrue(classes.isEmpty());
+    }
+
+    /** クラスファイルによる事前判定で候補とならないクラスはロードされないこと。*/
+    @Test
+    public void traverseWithPreFilter() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClassTraverser traverser = new ClassTraverser(classLoader, Auto1.class,
+                ClassFilter.allClasses(), new DefaultComponentPredicate());
+        final Set<Class<?>> classes = new HashSet<>();
+        traverser.traverse(classes::add);
+
+        assertTrue(classes.contains(Auto1.class));
+        assertTrue(classes.contains(Auto2.class));
+        assertTrue(classes.contains(Auto3.class));
+        assertFalse(classes.contains(NotComponent.class));
+    }
+
+    /** DefaultComponentPredicate以外の述語の場合は、事前判定を行わずにすべてのクラスがロードされること。*/
+    @Test
+    public void traverseWithoutPreFilter() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final ClassTraverser traverser = new ClassTraverser(classLoader, Auto1.class,
+                ClassFilter.allClasses(), clazz -> false);
+        final Set<Class<?>> classes = new HashSet<>();
+        traverser.traverse(classes::add);
+
+        assertTrue(classes.contains(Auto1.class));
+        assertTrue(classes.contains(NotComponent.class));
+    }
+
+    /** 起点クラスのパッケージ配下だけがトラバースされること。*/
+    @Test
+    public void traverseFromBasePackage() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final Set<Class<?>> classes = new HashSet<>();
+        new ClassTraverser(classLoader, Auto4.class, ClassFilter.allClasses())
+                .traverse(classes::add);
+
+        assertThat(classes, is((Set<Class<?>>) new HashSet<Class<?>>(Arrays.asList(Auto4.class))));
+    }
+
+    /** jarファイルでも起点クラスのパッケージ配下だけがトラバースされること。*/
+    @Test
+    public void traverseJarFileFromBasePackage() throws Exception {
+        final ClassLoader classLoader = getClass().getClassLoader();
+        final Set<Class<?>> classes = new HashSet<>();
+        new ClassTraverser(classLoader, Runner.class, ClassFilter.allClasses())
+                .traverse(classes::add);
+
+        assertTrue(classes.contains(Runner.class));
+        assertFalse(classes.contains(Test.class));
+        for (final Class<?> clazz : classes) {
+            assertTrue(clazz.getName().startsWith("org.junit.runner."));
+        }
+    }
+
     /** baseClassが{@link ProtectionDomain#getCodeSource()}でnullを返すとき、処理が中断されること。*/
     @Test
     public void traverseFailsOnSpecifyJavaLangClass() {
@@ -0,0 +1,52 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.auto.index.Indexed1;
+import nablarch.fw.dicontainer.annotation.auto.index.Indexed2;
+import nablarch.fw.dicontainer.annotation.auto.indexsibling.SiblingIndexed;
+
+public class ComponentIndexTest {
+
+    @Test
+    public void traverse() throws Exception {
+        final ComponentIndex sut = new ComponentIndex(getClass().getClassLoader(), getClass(),
+                ClassFilter.valueOf(new TraversalConfig() {
+                }));
+        final List<Class<?>> classes = new ArrayList<>();
+
+        assertTrue(sut.traverse(classes::add));
+        assertThat(classes, is(Arrays.<Class<?>> asList(Indexed1.class, Indexed2.class,
+                SiblingIndexed.class)));
+    }
+
+    @Test
+    public void traverseExcludesSiblingPackage() throws Exception {
+        // indexsiblingパッケージは名前の先頭がindexパッケージと一致するが、配下ではない
+        final ComponentIndex sut = new ComponentIndex(getClass().getClassLoader(),
+                Indexed1.class, ClassFilter.allClasses());
+        final List<Class<?>> classes = new ArrayList<>();
+
+        assertTrue(sut.traverse(classes::add));
+        assertThat(classes, is(Arrays.<Class<?>> asList(Indexed1.class, Indexed2.class)));
+    }
+
+    @Test
+    public void notFound() throws Exception {
+        // DIコンテナ本体のクラスと同じ場所にはインデックスが存在しない
+        final ComponentIndex sut = new ComponentIndex(getClass().getClassLoader(),
+                Container.class, ClassFilter.allClasses());
+        final List<Class<?>> classes = new ArrayList<>();
+
+        assertFalse(sut.traverse(classes::add));
+        assertTrue(classes.isEmpty());
+    }
+}
@@ -4,7 +4,17 @@ import nablarch.fw.dicontainer.web.RequestScoped;
 import org.junit.Test;
 
 import javax.inject.Named;
+import javax.inject.Scope;
 
+import java.io.InputStream;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -26,6 +36,72 @@ public class DefaultComponentPredicateTest {
         assertFalse(sut.test(Ddd.class));
     }
 
+    /** クラスファイルによる事前判定が、クラスによる判定と一致すること。*/
+    @Test
+    public void mayBeComponent() throws Exception {
+        assertTrue(sut.mayBeComponent(classFile(Aaa.class), classLoader()));
+        assertTrue(sut.mayBeComponent(classFile(Bbb.class), classLoader()));
+        assertFalse(sut.mayBeComponent(classFile(Ccc.class), classLoader()));
+        assertFalse(sut.mayBeComponent(classFile(Ddd.class), classLoader()));
+    }
+
+    /** スーパークラスに付与された{@link Inherited}なスコープが考慮されること。*/
+    @Test
+    public void mayBeComponentInherited() throws Exception {
+        assertTrue(sut.test(Fff.class));
+        assertTrue(sut.mayBeComponent(classFile(Fff.class), classLoader()));
+
+        assertFalse(sut.test(Hhh.class));
+        assertFalse(sut.mayBeComponent(classFile(Hhh.class), classLoader()));
+    }
+
+    /** 1回のトラバーサルでは、同じスーパークラスのクラスファイルを1回だけ読み込むこと。*/
+    @Test
+    public void mayBeComponentCachesSuperClass() throws Exception {
+        final List<String> read = new ArrayList<>();
+        final ClassLoader classLoader = new ClassLoader(classLoader()) {
+            @Override
+            public InputStream getResourceAsStream(final String name) {
+                read.add(name);
+                return super.getResourceAsStream(name);
+            }
+        };
+        final DefaultComponentPredicate traversal = sut.forTraversal();
+
+        assertFalse(traversal.mayBeComponent(classFile(Hhh.class), classLoader));
+        assertFalse(traversal.mayBeComponent(classFile(Iii.class), classLoader));
+
+        assertEquals(Collections.singletonList(Ggg.class.getName().replace('.', '/') + ".class"),
+                read);
+    }
+
+    /** スーパークラスのクラスファイルの解析で例外が発生した場合は、候補とみなすこと。*/
+    @Test
+    public void mayBeComponentBrokenSuperClass() throws Exception {
+        final ClassLoader classLoader = new ClassLoader(classLoader()) {
+            @Override
+            public InputStream getResourceAsStream(final String name) {
+                return new InputStream() {
+                    @Override
+                    public int read() {
+                        throw new IllegalStateException("broken");
+                    }
+                };
+            }
+        };
+
+        assertTrue(sut.mayBeComponent(classFile(Hhh.class), classLoader));
+        assertTrue(sut.forTraversal().mayBeComponent(classFile(Hhh.class), classLoader));
+    }
+
+    private static ClassFile classFile(final Class<?> clazz) throws Exception {
+        return ClassFile.read(classLoader(), clazz.getName()).get();
+    }
+
+    private static ClassLoader classLoader() {
+        return DefaultComponentPredicateTest.class.getClassLoader();
+    }
+
     /** {@link javax.inject.Scope}がある */
     @RequestScoped
     private static class Aaa {
@@ -45,4 +121,32 @@ public class DefaultComponentPredicateTest {
     @Deprecated
     private static class Ddd {
     }
-}
\ No newline at end of file
+
+    @Scope
+    @Inherited
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface InheritedScope {
+    }
+
+    /** 継承されるスコープがある */
+    @InheritedScope
+    private static class Eee {
+    }
+
+    /** スーパークラスから継承されるスコープがある */
+    private static class Fff extends Eee {
+    }
+
+    /** 継承されないスコープがある */
+    @RequestScoped
+    private static class Ggg {
+    }
+
+    /** スーパークラスのスコープは継承されない */
+    private static class Hhh extends Ggg {
+    }
+
+    /** スーパークラスのスコープは継承されない */
+    private static class Iii extends Ggg {
+    }
+}
@@ -0,0 +1,141 @@
+package nablarch.fw.dicontainer.annotation.auto;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import nablarch.fw.dicontainer.annotation.auto.custom.CustomDIConfig;
+
+public class ScanCacheTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final ComponentPredicate predicate = new DefaultComponentPredicate();
+
+    @Test
+    public void saveAndLoad() throws Exception {
+        final Path file = new File(temporaryFolder.getRoot(), "cache/scan.bin").toPath();
+        final ScanCache cache = ScanCache.load(file);
+        final ScanCache.Key key = cache.key(new CustomDIConfig(), predicate).get();
+        assertFalse(cache.get(key).isPresent());
+
+        cache.put(key, Arrays.asList("foo.Bar", "foo.Baz"));
+        cache.save();
+
+        final ScanCache loaded = ScanCache.load(file);
+        assertThat(loaded.get(loaded.key(new CustomDIConfig(), predicate).get()).get(),
+                is(Arrays.asList("foo.Bar", "foo.Baz")));
+    }
+
+    /** トラバーサルの設定が異なる場合はキャッシュを使用しないこと。 */
+    @Test
+    public void differentConfig() throws Exception {
+        final Path file = temporaryFolder.newFile("scan.bin").toPath();
+        final ScanCache cache = ScanCache.load(file);
+        cache.put(cache.key(new CustomDIConfig(), predicate).get(),
+                Collections.singletonList("foo.Bar"));
+        cache.save();
+
+        final ScanCache loaded = ScanCache.load(file);
+        final List<TraversalConfig> configs = Arrays.asList(new CustomDIConfig() {
+            @Override
+            public Set<String> excludes() {
+                return Collections.singleton("foo\\..*");
+            }
+        });
+        assertFalse(loaded.get(loaded.key(configs.get(0), predicate).get()).isPresent());
+        assertFalse(loaded.get(loaded.key(new CustomDIConfig(), clazz -> true).get()).isPresent());
+    }
+
+    /** 保存されていないエントリは保存しないこと。 */
+    @Test
+    public void saveOnlyUsedEntries() throws Exception {
+        final Path file = temporaryFolder.newFile("scan.bin").toPath();
+        final ScanCache cache = ScanCache.load(file);
+        cache.put(cache.key(new CustomDIConfig(), predicate).get(),
+                Collections.singletonList("foo.Bar"));
+        cache.save();
+
+        ScanCache.load(file).save();
+
+        final ScanCache loaded = ScanCache.load(file);
+        assertFalse(loaded.get(loaded.key(new CustomDIConfig(), predicate).get()).isPresent());
+    }
+
+    /** ディレクトリのクラスファイルが追加または変更された場合はキャッシュを使用しないこと。 */
+    @Test
+    public void directoryChanged() throws Exception {
+        final Path file = temporaryFolder.newFile("scan.bin").toPath();
+        final Path location = temporaryFolder.newFolder("classes").toPath();
+        final Path packageDir = Files.createDirectories(location.resolve("foo"));
+        final Path classFile = Files.write(packageDir.resolve("Bar.class"), new byte[] { 1 });
+        final TraversalConfig config = new CustomDIConfig();
+
+        final ScanCache cache = ScanCache.load(file);
+        cache.put(cache.key(location, "foo", config, predicate).get(),
+                Collections.singletonList("foo.Bar"));
+        cache.save();
+        assertTrue(ScanCache.load(file).get(cache.key(location, "foo", config, predicate).get())
+                .isPresent());
+
+        Files.write(classFile, new byte[] { 1, 2 });
+        assertFalse(ScanCache.load(file).get(cache.key(location, "foo", config, predicate).get())
+                .isPresent());
+
+        // パッケージ外のファイルは影響しない
+        final ScanCache updated = ScanCache.load(file);
+        updated.put(updated.key(location, "foo", config, predicate).get(),
+                Collections.singletonList("foo.Bar"));
+        updated.save();
+        Files.write(location.resolve("Other.class"), new byte[] { 1, 2, 3 });
+        assertTrue(ScanCache.load(file).get(cache.key(location, "foo", config, predicate).get())
+                .isPresent());
+    }
+
+    /** 合計サイズと更新日時が変わらなくても、ファイル名が変更された場合はキャッシュを使用しないこと。 */
+    @Test
+    public void directoryRenamed() throws Exception {
+        final Path file = temporaryFolder.newFile("scan.bin").toPath();
+        final Path location = temporaryFolder.newFolder("classes").toPath();
+        final Path packageDir = Files.createDirectories(location.resolve("foo"));
+        final FileTime time = FileTime.fromMillis(1000000000000L);
+        final Path classFile = Files.write(packageDir.resolve("Bar.class"), new byte[] { 1 });
+        Files.setLastModifiedTime(classFile, time);
+        Files.setLastModifiedTime(packageDir, time);
+        final TraversalConfig config = new CustomDIConfig();
+
+        final ScanCache cache = ScanCache.load(file);
+        cache.put(cache.key(location, "foo", config, predicate).get(),
+                Collections.singletonList("foo.Bar"));
+        cache.save();
+
+        final Path renamed = Files.move(classFile, packageDir.resolve("Baz.class"));
+        Files.setLastModifiedTime(renamed, time);
+        Files.setLastModifiedTime(packageDir, time);
+        assertFalse(ScanCache.load(file).get(cache.key(location, "foo", config, predicate).get())
+                .isPresent());
+    }
+
+    @Test
+    public void loadBrokenFile() throws Exception {
+        final Path file = temporaryFolder.newFile("scan.bin").toPath();
+        Files.write(file, new byte[] { 1, 2, 3 });
+
+        final ScanCache cache = ScanCache.load(file);
+
+        assertFalse(cache.get(cache.key(new CustomDIConfig(), predicate).get()).isPresent());
+    }
+}
@@ -0,0 +1,7 @@
+package nablarch.fw.dicontainer.annotation.auto.index;
+
+import javax.inject.Named;
+
+@Named("indexed")
+public class Indexed2 {
+}
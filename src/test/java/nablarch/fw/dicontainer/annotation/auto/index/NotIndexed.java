@@ -0,0 +1,7 @@
+package nablarch.fw.dicontainer.annotation.auto.index;
+
+import javax.inject.Singleton;
+
+@Singleton
+public class NotIndexed {
+}
@@ -0,0 +1,7 @@
+package nablarch.fw.dicontainer.annotation.auto.indexsibling;
+
+import javax.inject.Singleton;
+
+@Singleton
+public class SiblingIndexed {
+}
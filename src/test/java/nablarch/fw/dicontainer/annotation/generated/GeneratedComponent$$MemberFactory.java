@@ -0,0 +1,81 @@
+package nablarch.fw.dicontainer.annotation.generated;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import nablarch.fw.dicontainer.component.ComponentKey;
+import nablarch.fw.dicontainer.component.DestroyMethod;
+import nablarch.fw.dicontainer.component.ErrorCollector;
+import nablarch.fw.dicontainer.component.InitMethod;
+import nablarch.fw.dicontainer.component.InjectableConstructor;
+import nablarch.fw.dicontainer.component.InjectableMember;
+import nablarch.fw.dicontainer.component.InjectionComponentResolver;
+import nablarch.fw.dicontainer.component.ObservesMethod;
+import nablarch.fw.dicontainer.component.factory.MemberFactory;
+import nablarch.fw.dicontainer.component.impl.DefaultInjectionComponentResolver;
+import nablarch.fw.dicontainer.component.impl.GeneratedInjectableConstructor;
+import nablarch.fw.dicontainer.component.impl.GeneratedInjectableMember;
+import nablarch.fw.dicontainer.component.impl.GeneratedLifeCycleMethod;
+import nablarch.fw.dicontainer.component.impl.GeneratedObservesMethod;
+import nablarch.fw.dicontainer.component.impl.InjectionComponentResolvers;
+
+/**
+ * アノテーションプロセッサが生成するファクトリを模したクラス。
+ */
+public final class GeneratedComponent$$MemberFactory implements MemberFactory {
+
+    static int used;
+
+    @Override
+    public Optional<InjectableConstructor> createConstructor(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        used++;
+        return Optional.of(new GeneratedInjectableConstructor(
+                args -> new GeneratedComponent((GeneratedComponent.Dependency) args[0]),
+                resolvers("GeneratedComponent.GeneratedComponent")));
+    }
+
+    @Override
+    public List<InjectableMember> createFieldsAndMethods(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        final List<InjectableMember> members = new ArrayList<>();
+        members.add(new GeneratedInjectableMember(
+                (component, args) -> ((GeneratedComponent) component).fieldDependency = (GeneratedComponent.Dependency) args[0],
+                resolvers("GeneratedComponent.fieldDependency")));
+        members.add(new GeneratedInjectableMember(
+                (component, args) -> ((GeneratedComponent) component).setMethodDependency((GeneratedComponent.Dependency) args[0]),
+                resolvers("GeneratedComponent.setMethodDependency")));
+        return members;
+    }
+
+    @Override
+    public List<ObservesMethod> createObservesMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        final List<ObservesMethod> methods = new ArrayList<>();
+        methods.add(new GeneratedObservesMethod(String.class,
+                (component, event) -> ((GeneratedComponent) component).handle((String) event)));
+        return methods;
+    }
+
+    @Override
+    public Optional<InitMethod> createInitMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return Optional.of(new GeneratedLifeCycleMethod(
+                component -> ((GeneratedComponent) component).init()));
+    }
+
+    @Override
+    public Optional<DestroyMethod> createDestroyMethod(final Class<?> componentType,
+            final ErrorCollector errorCollector) {
+        return Optional.of(new GeneratedLifeCycleMethod(
+                component -> ((GeneratedComponent) component).destroy()));
+    }
+
+    private static InjectionComponentResolvers resolvers(final String sourceName) {
+        return new InjectionComponentResolvers(Collections.<InjectionComponentResolver> singletonList(
+                new DefaultInjectionComponentResolver(sourceName,
+                        new ComponentKey<>(GeneratedComponent.Dependency.class), false)));
+    }
+}
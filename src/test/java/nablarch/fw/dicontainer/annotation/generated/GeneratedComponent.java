@@ -0,0 +1,49 @@
+package nablarch.fw.dicontainer.annotation.generated;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import nablarch.fw.dicontainer.Destroy;
+import nablarch.fw.dicontainer.Init;
+import nablarch.fw.dicontainer.Observes;
+
+@Singleton
+public class GeneratedComponent {
+
+    final Dependency constructorDependency;
+    @Inject
+    Dependency fieldDependency;
+    Dependency methodDependency;
+    Object event;
+    boolean initialized;
+    boolean destroyed;
+
+    @Inject
+    GeneratedComponent(final Dependency constructorDependency) {
+        this.constructorDependency = constructorDependency;
+    }
+
+    @Inject
+    void setMethodDependency(final Dependency methodDependency) {
+        this.methodDependency = methodDependency;
+    }
+
+    @Observes
+    void handle(final String event) {
+        this.event = event;
+    }
+
+    @Init
+    void init() {
+        initialized = true;
+    }
+
+    @Destroy
+    void destroy() {
+        destroyed = true;
+    }
+
+    @Singleton
+    public static class Dependency {
+    }
+}
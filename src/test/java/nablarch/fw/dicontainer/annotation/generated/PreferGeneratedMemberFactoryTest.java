@@ -0,0 +1,70 @@
+package nablarch.fw.dicontainer.annotation.generated;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.annotation.AnnotationMemberFactory;
+import nablarch.fw.dicontainer.annotation.DefaultInjectionComponentResolverFactory;
+import nablarch.fw.dicontainer.annotation.PreferGeneratedMemberFactory;
+import nablarch.fw.dicontainer.component.ErrorCollector;
+import nablarch.fw.dicontainer.component.InjectableMember;
+import nablarch.fw.dicontainer.component.impl.GeneratedInjectableMember;
+import nablarch.fw.dicontainer.component.impl.InjectableField;
+import nablarch.fw.dicontainer.event.EventTrigger;
+
+public class PreferGeneratedMemberFactoryTest {
+
+    private final PreferGeneratedMemberFactory sut = new PreferGeneratedMemberFactory(
+            new AnnotationMemberFactory(new DefaultInjectionComponentResolverFactory()));
+
+    @Test
+    public void useGeneratedFactory() throws Exception {
+        final List<InjectableMember> members = sut.createFieldsAndMethods(
+                GeneratedComponent.class, ErrorCollector.newInstance());
+        assertThat(members.size(), is(2));
+        assertThat(members.get(0), is(instanceOf(GeneratedInjectableMember.class)));
+    }
+
+    @Test
+    public void fallbackWhenNotGenerated() throws Exception {
+        final List<InjectableMember> members = sut.createFieldsAndMethods(
+                NotGeneratedComponent.class, ErrorCollector.newInstance());
+        assertThat(members.size(), is(1));
+        assertThat(members.get(0), is(instanceOf(InjectableField.class)));
+    }
+
+    @Test
+    public void buildContainerWithGeneratedFactory() throws Exception {
+        final int used = GeneratedComponent$$MemberFactory.used;
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(GeneratedComponent.class)
+                .register(GeneratedComponent.Dependency.class)
+                .build();
+        assertThat(GeneratedComponent$$MemberFactory.used, is(used + 1));
+
+        final GeneratedComponent component = container.getComponent(GeneratedComponent.class);
+        final GeneratedComponent.Dependency dependency = container
+                .getComponent(GeneratedComponent.Dependency.class);
+        assertThat(component.constructorDependency, is(sameInstance(dependency)));
+        assertThat(component.fieldDependency, is(sameInstance(dependency)));
+        assertThat(component.methodDependency, is(sameInstance(dependency)));
+        assertTrue(component.initialized);
+
+        container.getComponent(EventTrigger.class).fire("event");
+        assertThat(component.event, is((Object) "event"));
+
+        container.destroy();
+        assertTrue(component.destroyed);
+    }
+
+    public static class NotGeneratedComponent {
+        @javax.inject.Inject
+        GeneratedComponent.Dependency dependency;
+    }
+}
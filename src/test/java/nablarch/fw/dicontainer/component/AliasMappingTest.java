@@ -2,6 +2,9 @@ package nablarch.fw.dicontainer.component;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -41,4 +44,26 @@ public class AliasMappingTest {
         final Set<ComponentKey<?>> keys = mapping.find(aliasKey2);
         assertTrue(keys.isEmpty());
     }
+
+    @Test
+    public void findAfterFreeze() throws Exception {
+        final AliasMapping frozen = mapping.freeze();
+        final Set<ComponentKey<?>> keys = frozen.find(aliasKey1);
+        assertEquals(Arrays.asList(key1, key2, key3), new ArrayList<>(keys));
+        assertTrue(keys.contains(key2));
+        assertTrue(frozen.find(aliasKey2).isEmpty());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void registerToFrozen() throws Exception {
+        mapping.freeze().register(aliasKey2, key1);
+    }
+
+    @Test
+    public void registerAfterFreeze() throws Exception {
+        final AliasMapping frozen = mapping.freeze();
+        mapping.register(aliasKey2, key1);
+        assertEquals(Collections.singleton(key1), mapping.find(aliasKey2));
+        assertTrue(frozen.find(aliasKey2).isEmpty());
+    }
 }
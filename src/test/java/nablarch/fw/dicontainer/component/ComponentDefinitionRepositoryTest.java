@@ -4,13 +4,18 @@ import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.annotation.AnnotationComponentKeyFactory;
 import nablarch.fw.dicontainer.component.factory.ComponentKeyFactory;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
 import nablarch.fw.dicontainer.scope.SingletonScope;
 import org.junit.Test;
 
 import javax.inject.Singleton;
 
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
 
 public class ComponentDefinitionRepositoryTest {
@@ -36,11 +41,102 @@ public class ComponentDefinitionRepositoryTest {
         assertSame(got, def);
     }
 
+    @Test
+    public void testFreeze() {
+        ComponentDefinitionRepository sut = new ComponentDefinitionRepository();
+        ComponentKey<Aaa> key = new ComponentKey<>(Aaa.class);
+        ComponentDefinition<Aaa> def = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        sut.register(key, def);
+        ComponentDefinitionRepository frozen = sut.freeze();
+        assertSame(def, frozen.find(key));
+        assertSame(def, frozen.get(def.getId()));
+        assertNull(frozen.find(new ComponentKey<>(Bbb.class)));
+        assertSame(frozen, frozen.freeze());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void throwExceptionWhenRegisterAfterFreeze() {
+        ComponentDefinitionRepository sut = new ComponentDefinitionRepository();
+        ComponentDefinitionRepository frozen = sut.freeze();
+        ComponentDefinition<Aaa> def = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        frozen.register(new ComponentKey<>(Aaa.class), def);
+    }
+
+    @Test
+    public void registerAfterFreeze() {
+        ComponentDefinitionRepository sut = new ComponentDefinitionRepository();
+        ComponentDefinitionRepository frozen = sut.freeze();
+        ComponentKey<Aaa> key = new ComponentKey<>(Aaa.class);
+        ComponentDefinition<Aaa> def = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        sut.register(key, def);
+        assertSame(def, sut.find(key));
+        assertNull(frozen.find(key));
+    }
+
+    @Test
+    public void testAssignIndexes() {
+        ComponentDefinitionRepository sut = new ComponentDefinitionRepository();
+        ComponentDefinition<Aaa> def1 = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        ComponentDefinition<Bbb> def2 = ComponentDefinition.builder(Bbb.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        sut.register(new ComponentKey<>(Aaa.class), def1);
+        sut.register(new ComponentKey<>(Bbb.class), def2);
+        assertEquals(-1, def1.getIndex());
+        assertEquals(-1, def2.getIndex());
+
+        sut.assignIndexes();
+
+        Set<Integer> indexes = new HashSet<>(Arrays.asList(def1.getIndex(), def2.getIndex()));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), indexes);
+    }
+
+    @Test
+    public void testList() {
+        ComponentDefinitionRepository sut = new ComponentDefinitionRepository();
+        ComponentDefinition<Bbb> def1 = ComponentDefinition.builder(Bbb.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        ComponentDefinition<Aaa> def2 = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(injectableConstructor)
+                .scope(new SingletonScope())
+                .build()
+                .get();
+        sut.register(new ComponentKey<>(Bbb.class), def1);
+        sut.register(new ComponentKey<>(Aaa.class), def2);
+
+        assertEquals(Arrays.asList(def1, def2), sut.list());
+        assertEquals(Arrays.asList(def1, def2), sut.freeze().list());
+    }
 
     @Singleton
     private static class Aaa {
     }
 
+    @Singleton
+    private static class Bbb {
+    }
+
     private InjectableConstructor injectableConstructor = new InjectableConstructor() {
         @Override
         public Object inject(Container container) {
@@ -51,10 +147,5 @@ public class ComponentDefinitionRepositoryTest {
         public void validate(ContainerBuilder<?> containerBuilder, ComponentDefinition<?> self) {
 
         }
-
-        @Override
-        public void validateCycleDependency(CycleDependencyValidationContext context) {
-
-        }
     };
 }
\ No newline at end of file
@@ -2,6 +2,14 @@ package nablarch.fw.dicontainer.component;
 
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.HashSet;
+import java.util.Set;
+
 import static org.junit.Assert.*;
 
 public class ComponentIdTest {
@@ -26,4 +34,37 @@ public class ComponentIdTest {
     public void testNull() {
         assertFalse(id1.equals(null));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testUnique() {
+        final Set<ComponentId> ids = new HashSet<>();
+        final Set<String> names = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            final ComponentId id = ComponentId.generate();
+            ids.add(id);
+            names.add(id.toString());
+        }
+        assertEquals(1000, ids.size());
+        assertEquals(1000, names.size());
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(out)) {
+            oos.writeObject(id1);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(
+                new ByteArrayInputStream(out.toByteArray()))) {
+            final ComponentId deserialized = (ComponentId) ois.readObject();
+            assertEquals(id1, deserialized);
+            assertEquals(id1.hashCode(), deserialized.hashCode());
+            assertEquals(id1.toString(), deserialized.toString());
+        }
+    }
+
+    @Test
+    public void testSerialVersionUID() {
+        assertEquals(1L, ObjectStreamClass.lookup(ComponentId.class).getSerialVersionUID());
+    }
+}
@@ -0,0 +1,63 @@
+package nablarch.fw.dicontainer.component;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class LookupTableTest {
+
+    @Test
+    public void get() throws Exception {
+        final Map<String, Integer> map = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, i);
+        }
+        final LookupTable<String, Integer> sut = new LookupTable<>(map);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(Integer.valueOf(i), sut.get("key" + i));
+        }
+        assertNull(sut.get("key100"));
+        assertNull(sut.get(null));
+    }
+
+    @Test
+    public void getCollidingKeys() throws Exception {
+        final Map<Colliding, String> map = new HashMap<>();
+        map.put(new Colliding("a"), "A");
+        map.put(new Colliding("b"), "B");
+        map.put(new Colliding("c"), "C");
+        final LookupTable<Colliding, String> sut = new LookupTable<>(map);
+        assertEquals("A", sut.get(new Colliding("a")));
+        assertEquals("B", sut.get(new Colliding("b")));
+        assertEquals("C", sut.get(new Colliding("c")));
+        assertNull(sut.get(new Colliding("d")));
+    }
+
+    @Test
+    public void getFromEmpty() throws Exception {
+        final LookupTable<String, String> sut = new LookupTable<>(new HashMap<>());
+        assertNull(sut.get("key"));
+    }
+
+    private static final class Colliding {
+
+        private final String value;
+
+        Colliding(final String value) {
+            this.value = value;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Colliding && ((Colliding) obj).value.equals(value);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package nablarch.fw.dicontainer.component;
 
 import nablarch.fw.dicontainer.Container;
 import nablarch.fw.dicontainer.container.ContainerBuilder;
-import nablarch.fw.dicontainer.container.CycleDependencyValidationContext;
 
 public class MockInjectableConstructor implements InjectableConstructor {
 
@@ -15,8 +14,4 @@ public class MockInjectableConstructor implements InjectableConstructor {
     public void validate(final ContainerBuilder<?> containerBuilder,
             final ComponentDefinition<?> self) {
     }
-
-    @Override
-    public void validateCycleDependency(final CycleDependencyValidationContext context) {
-    }
 }
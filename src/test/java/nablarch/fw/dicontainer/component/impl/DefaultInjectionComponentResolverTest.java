@@ -0,0 +1,45 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import static org.junit.Assert.*;
+
+import javax.inject.Singleton;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentKey;
+
+public class DefaultInjectionComponentResolverTest {
+
+    /** 結び付けたコンポーネント定義からコンポーネントが取得されること。 */
+    @Test
+    public void resolveLinked() throws Exception {
+        final DefaultInjectionComponentResolver sut = new DefaultInjectionComponentResolver(
+                "Test.aaa", new ComponentKey<>(Aaa.class), false);
+        final AnnotationContainerBuilder builder = AnnotationContainerBuilder.createDefault()
+                .register(Aaa.class);
+        sut.link(builder);
+        final Container container = builder.build();
+
+        assertSame(container.getComponent(Aaa.class), sut.resolve(container));
+    }
+
+    /** 検索キーに対応するコンポーネント定義がなくなった場合、以前に結び付けたコンポーネント定義は使用されないこと。 */
+    @Test
+    public void resolveAfterUnlinked() throws Exception {
+        final DefaultInjectionComponentResolver sut = new DefaultInjectionComponentResolver(
+                "Test.aaa", new ComponentKey<>(Aaa.class), false);
+        sut.link(AnnotationContainerBuilder.createDefault().register(Aaa.class));
+        sut.link(AnnotationContainerBuilder.createDefault());
+
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Aaa.class)
+                .build();
+        assertSame(container.getComponent(Aaa.class), sut.resolve(container));
+    }
+
+    @Singleton
+    public static class Aaa {
+    }
+}
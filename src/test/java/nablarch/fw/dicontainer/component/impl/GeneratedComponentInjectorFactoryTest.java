@@ -0,0 +1,125 @@
+package nablarch.fw.dicontainer.component.impl;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import javax.inject.Singleton;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.Init;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentInjector;
+import nablarch.fw.dicontainer.exception.ReflectionException;
+
+public class GeneratedComponentInjectorFactoryTest {
+
+    private final GeneratedComponentInjectorFactory sut = new GeneratedComponentInjectorFactory();
+
+    @Test
+    public void inject() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .componentInjectorFactory(sut)
+                .register(Aaa.class)
+                .register(Bbb.class)
+                .register(Ccc.class)
+                .build();
+
+        final Aaa component = container.getComponent(Aaa.class);
+
+        assertSame(container.getComponent(Bbb.class), component.constructorArg1);
+        assertNotNull(component.constructorArg2);
+        assertNotSame(component.constructorArg2, container.getComponent(Ccc.class));
+        assertSame(container.getComponent(Bbb.class), component.field);
+        assertSame(container.getComponent(Bbb.class), component.methodArg1);
+        assertSame(container.getComponent(Bbb.class), component.methodArg2.get());
+        assertEquals(Collections.singletonList("init"), component.called);
+    }
+
+    @Test
+    public void createForNoArgConstructor() throws Exception {
+        final Optional<ComponentInjector> injector = sut.create(
+                new DefaultInjectableConstructor(Bbb.class.getDeclaredConstructor(),
+                        InjectionComponentResolvers.empty()),
+                Collections.emptyList(), new NoopInitMethod());
+
+        assertTrue(injector.isPresent());
+        assertTrue(injector.get().inject(null) instanceof Bbb);
+    }
+
+    @Test
+    public void notCreateForUnknownConstructor() throws Exception {
+        final Optional<ComponentInjector> injector = sut.create(
+                new PassthroughInjectableConstructor(new Object()),
+                Collections.emptyList(), new NoopInitMethod());
+
+        assertFalse(injector.isPresent());
+    }
+
+    @Test
+    public void wrapExceptionThrownByComponent() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .componentInjectorFactory(sut)
+                .register(Ddd.class)
+                .build();
+
+        try {
+            container.getComponent(Ddd.class);
+            fail();
+        } catch (final ReflectionException e) {
+            assertEquals("for test", e.getCause().getMessage());
+        }
+    }
+
+    private static class Aaa {
+
+        final Bbb constructorArg1;
+        final Ccc constructorArg2;
+        @Inject
+        Bbb field;
+        Bbb methodArg1;
+        Provider<Bbb> methodArg2;
+        final List<String> called = new ArrayList<>();
+
+        @Inject
+        Aaa(final Bbb constructorArg1, final Ccc constructorArg2) {
+            this.constructorArg1 = constructorArg1;
+            this.constructorArg2 = constructorArg2;
+        }
+
+        @Inject
+        void method(final Bbb methodArg1, final Provider<Bbb> methodArg2) {
+            this.methodArg1 = methodArg1;
+            this.methodArg2 = methodArg2;
+        }
+
+        @Init
+        void init() {
+            assertNotNull(field);
+            assertNotNull(methodArg1);
+            called.add("init");
+        }
+    }
+
+    @Singleton
+    private static class Bbb {
+    }
+
+    private static class Ccc {
+    }
+
+    private static class Ddd {
+
+        @Init
+        void init() {
+            throw new IllegalStateException("for test");
+        }
+    }
+}
@@ -1,16 +1,18 @@
 package nablarch.fw.dicontainer.component.impl;
 
+import static org.junit.Assert.*;
+
 import org.junit.Test;
 
 public class PassthroughInjectableConstructorTest {
 
     /**
-     * 格納したインスタンスをそのまま返却する{@link nablarch.fw.dicontainer.component.InjectableConstructor}実装クラスであるため、
-     * {@link PassthroughInjectableConstructor#validateCycleDependency}を起動しても何も起こらないこと。
+     * 格納したインスタンスをそのまま返却すること。
      */
     @Test
-    public void testValidateCycleDependencyNop() {
-        PassthroughInjectableConstructor sut = new PassthroughInjectableConstructor(new Object());
-        sut.validateCycleDependency(null);
+    public void testInjectReturnsInstance() {
+        Object instance = new Object();
+        PassthroughInjectableConstructor sut = new PassthroughInjectableConstructor(instance);
+        assertSame(instance, sut.inject(null));
     }
-}
\ No newline at end of file
+}
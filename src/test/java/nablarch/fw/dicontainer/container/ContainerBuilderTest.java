@@ -0,0 +1,80 @@
+package nablarch.fw.dicontainer.container;
+
+import static org.junit.Assert.*;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.ComponentKey;
+
+public class ContainerBuilderTest {
+
+    /** 同じ検索キーで検索した場合は、キャッシュした検索結果が返されること。 */
+    @Test
+    public void findComponentDefinitionsCached() throws Exception {
+        final AnnotationContainerBuilder sut = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class);
+        final ComponentKey<Aaa> key = new ComponentKey<>(Aaa.class);
+
+        final Set<ComponentDefinition<?>> found = sut.findComponentDefinitions(key);
+        assertEquals(1, found.size());
+        assertSame(found, sut.findComponentDefinitions(key));
+    }
+
+    /** コンポーネント定義を登録すると、キャッシュした検索結果が破棄されること。 */
+    @Test
+    public void findComponentDefinitionsAfterRegister() throws Exception {
+        final AnnotationContainerBuilder sut = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class);
+        final ComponentKey<Aaa> key = new ComponentKey<>(Aaa.class);
+        assertEquals(1, sut.findComponentDefinitions(key).size());
+
+        sut.register(Ccc.class);
+
+        assertEquals(2, sut.findComponentDefinitions(key).size());
+    }
+
+    /** 検索結果は変更できないこと。 */
+    @Test(expected = UnsupportedOperationException.class)
+    public void findComponentDefinitionsUnmodifiable() throws Exception {
+        final AnnotationContainerBuilder sut = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class)
+                .register(Ccc.class);
+
+        sut.findComponentDefinitions(new ComponentKey<>(Aaa.class)).clear();
+    }
+
+    /** 同じビルダーから再度構築できないこと。 */
+    @Test(expected = IllegalStateException.class)
+    public void buildTwice() throws Exception {
+        final AnnotationContainerBuilder sut = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class);
+        final Container container = sut.build();
+        assertEquals(1, container.getComponents(Aaa.class).size());
+
+        sut.build();
+    }
+
+    /** 構築した後はコンポーネント定義を登録できないこと。 */
+    @Test(expected = IllegalStateException.class)
+    public void registerAfterBuild() throws Exception {
+        final AnnotationContainerBuilder sut = AnnotationContainerBuilder.createDefault()
+                .register(Bbb.class);
+        sut.build();
+
+        sut.register(Ccc.class);
+    }
+
+    private interface Aaa {
+    }
+
+    private static class Bbb implements Aaa {
+    }
+
+    private static class Ccc implements Aaa {
+    }
+}
@@ -0,0 +1,63 @@
+package nablarch.fw.dicontainer.container;
+
+import static org.junit.Assert.*;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.NamedImpl;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentKey;
+import nablarch.fw.dicontainer.exception.ComponentNotFoundException;
+
+public class DefaultContainerTest {
+
+    /** コンポーネント定義を解決できた検索キーは、解決結果がキャッシュされること。 */
+    @Test
+    public void resolutionCached() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .register(Aaa.class)
+                .build();
+
+        assertNotNull(container.getComponent(Aaa.class));
+        assertNotNull(container.getComponent(new ComponentKey<>(Aaa.class)));
+
+        assertEquals(1, cacheSize(container, "classResolutions"));
+        assertEquals(1, cacheSize(container, "resolutions"));
+    }
+
+    /** コンポーネントが見つからない検索キーは、解決結果がキャッシュされないこと。 */
+    @Test
+    public void notFoundNotCached() throws Exception {
+        final Container container = AnnotationContainerBuilder.createDefault()
+                .build();
+
+        for (int i = 0; i < 10; i++) {
+            try {
+                container.getComponent(Aaa.class, new NamedImpl("name" + i));
+                fail();
+            } catch (final ComponentNotFoundException expected) {
+            }
+            try {
+                container.getComponent(Aaa.class);
+                fail();
+            } catch (final ComponentNotFoundException expected) {
+            }
+        }
+
+        assertEquals(0, cacheSize(container, "classResolutions"));
+        assertEquals(0, cacheSize(container, "resolutions"));
+    }
+
+    private static int cacheSize(final Container container, final String name) throws Exception {
+        final Field field = DefaultContainer.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return ((Map<?, ?>) field.get(container)).size();
+    }
+
+    private static class Aaa {
+    }
+}
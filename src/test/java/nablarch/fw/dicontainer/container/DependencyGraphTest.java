@@ -0,0 +1,146 @@
+package nablarch.fw.dicontainer.container;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.MockInjectableConstructor;
+import nablarch.fw.dicontainer.exception.ContainerCreationException;
+import nablarch.fw.dicontainer.exception.ContainerException;
+import nablarch.fw.dicontainer.scope.SingletonScope;
+
+public class DependencyGraphTest {
+
+    private final ComponentDefinition<Aaa> aaa = definition(Aaa.class);
+    private final ComponentDefinition<Bbb> bbb = definition(Bbb.class);
+    private final ComponentDefinition<Ccc> ccc = definition(Ccc.class);
+    private final ComponentDefinition<Ddd> ddd = definition(Ddd.class);
+
+    /** 循環している依存関係ごとにエラーが追加されること。 */
+    @Test
+    public void validateCycle() throws Exception {
+        final DependencyGraph sut = new DependencyGraph();
+        sut.addEdge(aaa, bbb);
+        sut.addEdge(bbb, ccc);
+        sut.addEdge(ccc, aaa);
+        sut.addEdge(ccc, ddd);
+
+        assertThat(validate(sut), is(Arrays.asList(
+                "Dependency between [" + aaa + "] and [" + bbb + "] is cycled.",
+                "Dependency between [" + bbb + "] and [" + ccc + "] is cycled.",
+                "Dependency between [" + ccc + "] and [" + aaa + "] is cycled.")));
+    }
+
+    /** 自身への依存も循環として検出されること。 */
+    @Test
+    public void validateSelfDependency() throws Exception {
+        final DependencyGraph sut = new DependencyGraph();
+        sut.addEdge(aaa, bbb);
+        sut.addEdge(bbb, bbb);
+
+        assertThat(validate(sut), is(Arrays.asList(
+                "Dependency between [" + bbb + "] and [" + bbb + "] is cycled.")));
+    }
+
+    /** 互いに独立した複数の循環がすべて検出されること。 */
+    @Test
+    public void validateIndependentCycles() throws Exception {
+        final DependencyGraph sut = new DependencyGraph();
+        sut.addEdge(aaa, bbb);
+        sut.addEdge(bbb, aaa);
+        sut.addEdge(bbb, ccc);
+        sut.addEdge(ccc, ddd);
+        sut.addEdge(ddd, ccc);
+
+        assertThat(validate(sut).size(), is(4));
+    }
+
+    /** 複数の経路で同じ依存先に到達しても、循環していなければエラーにならないこと。 */
+    @Test
+    public void validateDiamond() throws Exception {
+        final DependencyGraph sut = new DependencyGraph();
+        sut.addEdge(aaa, bbb);
+        sut.addEdge(aaa, ccc);
+        sut.addEdge(bbb, ddd);
+        sut.addEdge(ccc, ddd);
+        sut.addEdge(aaa, ddd);
+
+        assertThat(validate(sut), is(Collections.<String> emptyList()));
+    }
+
+    /** 検出した後に追加した依存関係で循環した場合も、再度の検出で循環が検出されること。 */
+    @Test
+    public void validateAgainAfterAddEdge() throws Exception {
+        final DependencyGraph sut = new DependencyGraph();
+        sut.addEdge(aaa, bbb);
+        assertThat(validate(sut), is(Collections.<String> emptyList()));
+
+        sut.addEdge(bbb, aaa);
+
+        assertThat(validate(sut), is(Arrays.asList(
+                "Dependency between [" + aaa + "] and [" + bbb + "] is cycled.",
+                "Dependency between [" + bbb + "] and [" + aaa + "] is cycled.")));
+    }
+
+    /** 依存関係が深くてもスタックオーバーフローしないこと。 */
+    @Test
+    public void validateDeepDependency() throws Exception {
+        final List<ComponentDefinition<Aaa>> definitions = new ArrayList<>();
+        for (int i = 0; i < 100000; i++) {
+            definitions.add(definition(Aaa.class));
+        }
+        final DependencyGraph chain = new DependencyGraph();
+        final DependencyGraph ring = new DependencyGraph();
+        for (int i = 1; i < definitions.size(); i++) {
+            chain.addEdge(definitions.get(i - 1), definitions.get(i));
+            ring.addEdge(definitions.get(i - 1), definitions.get(i));
+        }
+        ring.addEdge(definitions.get(definitions.size() - 1), definitions.get(0));
+
+        assertThat(validate(chain).size(), is(0));
+        assertThat(validate(ring).size(), is(definitions.size()));
+    }
+
+    private static List<String> validate(final DependencyGraph sut) {
+        final ContainerBuilder<?> builder = AnnotationContainerBuilder.builder().build();
+        sut.validate(builder);
+        try {
+            builder.errorCollector.throwExceptionIfExistsError();
+            return Collections.emptyList();
+        } catch (final ContainerCreationException e) {
+            final List<String> messages = new ArrayList<>();
+            for (final ContainerException exception : e.getExceptions()) {
+                messages.add(exception.getMessage());
+            }
+            return messages;
+        }
+    }
+
+    private static <T> ComponentDefinition<T> definition(final Class<T> componentType) {
+        return ComponentDefinition.builder(componentType)
+                .injectableConstructor(new MockInjectableConstructor())
+                .scope(new SingletonScope())
+                .build()
+                .get();
+    }
+
+    private static class Aaa {
+    }
+
+    private static class Bbb {
+    }
+
+    private static class Ccc {
+    }
+
+    private static class Ddd {
+    }
+}
@@ -5,6 +5,8 @@ import static org.junit.Assert.*;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -266,6 +268,53 @@ public class ContainerCreationExceptionTest {
         }
     }
 
+    /** 並列にバリデーションを行っても、直列に行った場合と同じエラーが同じ順序で収集されること。 */
+    @Test
+    public void parallelValidation() throws Exception {
+        final List<String> serial = validationErrors(false);
+        final List<String> parallel = validationErrors(true);
+
+        assertTrue(serial.size() > 10);
+        assertEquals(serial, parallel);
+    }
+
+    private static List<String> validationErrors(final boolean parallelValidation) {
+        final AnnotationContainerBuilder builder = AnnotationContainerBuilder.createDefault()
+                .parallelValidation(parallelValidation)
+                .register(Aaa.class)
+                .register(Ddd1.class)
+                .register(Ddd2.class)
+                .register(Ddd3.class)
+                .register(Nnn1.class)
+                .register(Nnn2.class)
+                .register(Ooo1.class)
+                .register(Ooo2.class)
+                .register(Ooo3.class)
+                .register(Ooo4.class)
+                .register(Ppp1.class)
+                .register(Ppp2.class)
+                .register(Ppp5.class)
+                .register(Ppp6.class)
+                .register(Ppp13.class)
+                .register(Ppp14.class)
+                .register(Ppp15.class)
+                .register(Qqq2.class)
+                .register(Qqq3.class)
+                .register(Qqq4.class)
+                .register(Qqq5.class);
+        try {
+            builder.build();
+            fail();
+            return null;
+        } catch (final ContainerCreationException e) {
+            final List<String> messages = new ArrayList<>();
+            for (final ContainerException exception : e.getExceptions()) {
+                messages.add(exception.getClass().getName() + ": " + exception.getMessage());
+            }
+            return messages;
+        }
+    }
+
     @Test
     public void fieldInjectionComponentDuplicated() throws Exception {
         final AnnotationContainerBuilder builder = AnnotationContainerBuilder.createDefault()
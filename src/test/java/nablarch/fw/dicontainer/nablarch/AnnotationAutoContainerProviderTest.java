@@ -31,6 +31,21 @@ public class AnnotationAutoContainerProviderTest {
         assertNotNull(containerImplementer);
     }
 
+    @Test
+    public void ディレクトリトラバーサルを並列に行えること() {
+        sut.setTraversalConfigs(Collections.singletonList(new TraversalConfig() {
+        }));
+        sut.setComponentPredicate(clazz -> false);
+        sut.setParallelTraversal(true);
+        sut.setUseComponentIndex(true);
+        NablarchWebContextHandler supplier = new NablarchWebContextHandler();
+        sut.setRequestContextSupplier(supplier);
+        sut.setSessionContextSupplier(supplier);
+        sut.initialize();
+
+        assertNotNull(Containers.get());
+    }
+
     @Test
     public void initialize実行後_コンポーネントを取得できること() {
 
@@ -0,0 +1,45 @@
+package nablarch.fw.dicontainer.scope;
+
+import static org.junit.Assert.*;
+
+import javax.inject.Provider;
+
+import org.junit.Test;
+
+import nablarch.fw.dicontainer.component.ComponentDefinition;
+import nablarch.fw.dicontainer.component.ComponentId;
+import nablarch.fw.dicontainer.component.MockInjectableConstructor;
+
+public class AbstractScopeTest {
+
+    /** 同じコンポーネント定義を複数回登録しても、1つだけ保持されること。 */
+    @Test
+    public void registerSameDefinition() throws Exception {
+        final MockScope sut = new MockScope();
+        final ComponentDefinition<Aaa> definition = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(new MockInjectableConstructor())
+                .scope(sut)
+                .build()
+                .get();
+        sut.register(definition);
+
+        assertEquals(1, sut.idToDefinition.size());
+        assertSame(definition, sut.idToDefinition.get(definition.getId()));
+    }
+
+    private static class MockScope extends AbstractScope {
+
+        @Override
+        public <T> T getComponent(final ComponentId id, final Provider<T> provider) {
+            return provider.get();
+        }
+
+        @Override
+        public int dimensions() {
+            return 0;
+        }
+    }
+
+    private static class Aaa {
+    }
+}
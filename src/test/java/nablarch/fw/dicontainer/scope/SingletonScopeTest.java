@@ -1,8 +1,13 @@
 package nablarch.fw.dicontainer.scope;
 
+import nablarch.fw.dicontainer.Container;
+import nablarch.fw.dicontainer.annotation.AnnotationContainerBuilder;
+import nablarch.fw.dicontainer.annotation.AnnotationScopeDecider;
 import nablarch.fw.dicontainer.component.ComponentDefinition;
 import nablarch.fw.dicontainer.component.ComponentDefinition.Builder;
+import nablarch.fw.dicontainer.component.ComponentDefinitionRepository;
 import nablarch.fw.dicontainer.component.ComponentId;
+import nablarch.fw.dicontainer.component.ComponentKey;
 import nablarch.fw.dicontainer.component.MockInjectableConstructor;
 import nablarch.fw.dicontainer.event.ContainerDestroy;
 import org.junit.Test;
@@ -10,7 +15,9 @@ import org.junit.Test;
 import javax.inject.Provider;
 import javax.inject.Singleton;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -47,6 +54,37 @@ public class SingletonScopeTest {
         assertTrue(components[0] == components[1]);
     }
 
+    /**
+     * 多数のスレッドから同時に取得しても、インスタンスの生成は一度だけ行われること。
+     */
+    @Test
+    public void getComponentManyThreads() throws Exception {
+        final ComponentId id = ComponentId.generate();
+        final AtomicInteger count = new AtomicInteger();
+        final Provider<Bbb> provider = () -> {
+            count.incrementAndGet();
+            return new Bbb();
+        };
+        final Bbb[] components = new Bbb[16];
+        final Thread[] threads = new Thread[components.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int index = i;
+            threads[i] = new Thread(() -> {
+                components[index] = scope.getComponent(id, provider);
+            });
+        }
+        for (final Thread t : threads) {
+            t.start();
+        }
+        for (final Thread t : threads) {
+            t.join();
+        }
+        assertEquals(1, count.get());
+        for (final Bbb component : components) {
+            assertTrue(components[0] == component);
+        }
+    }
+
 
 
     /**
@@ -84,6 +122,50 @@ public class SingletonScopeTest {
         });
     }
 
+    /**
+     * 同じスコープを共有する複数のDIコンテナから取得した場合でも、
+     * DIコンテナごとのインスタンスが取得されること。
+     */
+    @Test
+    public void getComponentSharedScope() {
+        final ScopeDecider scopeDecider = AnnotationScopeDecider.createDefault();
+        final Container container1 = AnnotationContainerBuilder.builder()
+                .scopeDecider(scopeDecider).build()
+                .register(Ccc.class)
+                .build();
+        final Container container2 = AnnotationContainerBuilder.builder()
+                .scopeDecider(scopeDecider).build()
+                .register(Ccc.class)
+                .build();
+
+        final Ccc component1 = container1.getComponent(Ccc.class);
+        final Ccc component2 = container2.getComponent(Ccc.class);
+
+        assertTrue(component1 == container1.getComponent(Ccc.class));
+        assertTrue(component2 == container2.getComponent(Ccc.class));
+        assertTrue(component1 != component2);
+    }
+
+    /**
+     * インデックスの位置に確保したインスタンスは、IDを指定して取得した場合にも同じインスタンスが返されること。
+     */
+    @Test
+    public void getComponentPrepared() {
+        final ComponentDefinition<Aaa> def = ComponentDefinition.builder(Aaa.class)
+                .injectableConstructor(new MockInjectableConstructor())
+                .scope(scope)
+                .build()
+                .get();
+        final ComponentDefinitionRepository repository = new ComponentDefinitionRepository();
+        repository.register(new ComponentKey<>(Aaa.class), def);
+        repository.assignIndexes();
+
+        final Aaa component = scope.getComponent(def, Aaa::new);
+
+        assertTrue(component == scope.getComponent(def, Aaa::new));
+        assertTrue(component == scope.getComponent(def.getId(), Aaa::new));
+    }
+
     static class Aaa {
     }
 